@@ -0,0 +1,143 @@
+package com.sportcenter.shift_manager.carga;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+// Reproduce lo que hace el frontend Angular: supervisores que abren la grilla semanal, recorren las semanas
+// del mes y pasan a la vista mensual de un colaborador, y analistas que consultan los reportes.
+// Parámetros (-D): baseUrl, supervisores, analistas, duracion (s), colaboradores (ids 1..n), meses (hacia atrás).
+public class GrillaYReportesSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final int SUPERVISORES = Integer.getInteger("supervisores", 20);
+    private static final int ANALISTAS = Integer.getInteger("analistas", 5);
+    private static final Duration DURACION = Duration.ofSeconds(Integer.getInteger("duracion", 120));
+    private static final int COLABORADORES = Integer.getInteger("colaboradores", 200);
+    private static final int MESES = Integer.getInteger("meses", 12);
+
+    private final HttpProtocolBuilder protocolo = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .header("Origin", "http://localhost:4200")
+            .shareConnections();
+
+    // Un mes del historial reciente y un grupo de colaboradores por usuario virtual
+    private static Iterator<Map<String, Object>> consultas() {
+        Random random = new Random();
+        return Stream.generate(() -> {
+            YearMonth mes = YearMonth.now().minusMonths(random.nextInt(MESES));
+            StringJoiner grupo = new StringJoiner(",");
+            for (int i = 0; i < 10; i++) {
+                grupo.add(String.valueOf(1 + random.nextInt(COLABORADORES)));
+            }
+            Map<String, Object> datos = new HashMap<>();
+            datos.put("mes", mes.getMonthValue());
+            datos.put("anio", mes.getYear());
+            datos.put("inicioMes", mes.atDay(1).toString());
+            datos.put("finMes", mes.atEndOfMonth().toString());
+            datos.put("semanas", semanasDelMes(mes));
+            datos.put("colaborador", 1 + random.nextInt(COLABORADORES));
+            datos.put("grupo", grupo.toString());
+            return datos;
+        }).iterator();
+    }
+
+    // Semanas de lunes a domingo recortadas al mes, como CalendarioSemanas
+    private static int semanasDelMes(YearMonth mes) {
+        LocalDate lunes = mes.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int semanas = 0;
+        while (!lunes.isAfter(mes.atEndOfMonth())) {
+            semanas++;
+            lunes = lunes.plusWeeks(1);
+        }
+        return semanas;
+    }
+
+    private static Session limitesSemana(Session session) {
+        YearMonth mes = YearMonth.of(session.getInt("anio"), session.getInt("mes"));
+        int numero = session.getInt("semana");
+        LocalDate lunes = mes.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(numero - 1);
+        LocalDate inicio = lunes.isBefore(mes.atDay(1)) ? mes.atDay(1) : lunes;
+        LocalDate fin = lunes.plusDays(6).isAfter(mes.atEndOfMonth()) ? mes.atEndOfMonth() : lunes.plusDays(6);
+        return session.set("inicioSemana", inicio.toString()).set("finSemana", fin.toString());
+    }
+
+    // Al entrar a Turnos: maestros para filtros y tooltips
+    private final ChainBuilder abrirGrilla = exec(
+            http("colaboradores").get("/api/colaboradores"),
+            http("tiendas").get("/api/tiendas"),
+            http("feriados").get("/api/feriados"),
+            http("semanas del mes").get("/api/turnos/semanas-del-mes?mes=#{mes}&anio=#{anio}&incluirHoras=true")
+    );
+
+    // Cada semana: token del feed de cambios, semana completa (con ETag) y, tras un rato, el delta
+    private final ChainBuilder recorrerSemanas = repeat("#{semanas}", "indice").on(
+            exec(session -> limitesSemana(session.set("semana", session.getInt("indice") + 1)))
+                    .exec(http("cambios (token)")
+                            .get("/api/turnos/cambios?inicio=#{inicioSemana}&fin=#{finSemana}")
+                            .check(jsonPath("$.token").saveAs("token")))
+                    .exec(http("semanal-estricto")
+                            .get("/api/turnos/semanal-estricto?mes=#{mes}&anio=#{anio}&semana=#{semana}")
+                            .check(status().in(200, 304)))
+                    .pause(Duration.ofSeconds(2), Duration.ofSeconds(6))
+                    .exec(http("cambios (delta)")
+                            .get("/api/turnos/cambios?inicio=#{inicioSemana}&fin=#{finSemana}&desde=#{token}"))
+    );
+
+    // Vista mensual de un colaborador
+    private final ChainBuilder vistaMensual = exec(
+            http("mensual colaborador").get("/api/turnos/mensual/#{colaborador}?mes=#{mes}&anio=#{anio}"),
+            http("resumen mensual colaborador")
+                    .get("/api/turnos/resumen-mensual?mes=#{mes}&anio=#{anio}&colaboradores=#{colaborador}&incluirTurnos=false"),
+            http("mensual").get("/api/turnos/mensual?mes=#{mes}&anio=#{anio}").check(status().in(200, 304))
+    );
+
+    private final ChainBuilder reportes = exec(
+            http("colaboradores (reportes)").get("/api/colaboradores"),
+            http("reporte horas").get("/api/turnos/reporte?fechaInicio=#{inicioMes}&fechaFin=#{finMes}&colaboradores=#{grupo}"),
+            http("reporte feriados").get("/api/turnos/reporte/feriados?fechaInicio=#{inicioMes}&fechaFin=#{finMes}&colaboradores=#{grupo}"),
+            http("resumen mensual").get("/api/turnos/resumen-mensual?mes=#{mes}&anio=#{anio}&incluirTurnos=false")
+    );
+
+    private final ScenarioBuilder supervisores = scenario("Supervisor en la grilla")
+            .feed(consultas())
+            .exec(abrirGrilla)
+            .pause(Duration.ofSeconds(1), Duration.ofSeconds(3))
+            .exec(recorrerSemanas)
+            .pause(Duration.ofSeconds(1), Duration.ofSeconds(3))
+            .exec(vistaMensual);
+
+    private final ScenarioBuilder analistas = scenario("Analista de reportes")
+            .feed(consultas())
+            .exec(reportes)
+            .pause(Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+    {
+        setUp(
+                supervisores.injectClosed(constantConcurrentUsers(SUPERVISORES).during(DURACION)),
+                analistas.injectClosed(constantConcurrentUsers(ANALISTAS).during(DURACION))
+        ).protocols(protocolo)
+                .assertions(
+                        global().responseTime().percentile(95.0).lt(800),
+                        global().failedRequests().percent().lt(1.0)
+                );
+    }
+}
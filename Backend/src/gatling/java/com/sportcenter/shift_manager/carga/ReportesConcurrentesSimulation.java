@@ -0,0 +1,73 @@
+package com.sportcenter.shift_manager.carga;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+// Ráfaga de cierre de mes: reportes del mes anterior llegando a tasa fija (modelo abierto, no esperan a que
+// el servidor responda). Sirve para comparar rendimiento y p99 con y sin el perfil hilos-virtuales.
+// Parámetros (-D): baseUrl, tasa (peticiones/s), rampa y duracion (s), colaboradores (ids 1..n).
+public class ReportesConcurrentesSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final int TASA = Integer.getInteger("tasa", 50);
+    private static final Duration RAMPA = Duration.ofSeconds(Integer.getInteger("rampa", 30));
+    private static final Duration DURACION = Duration.ofSeconds(Integer.getInteger("duracion", 120));
+    private static final int COLABORADORES = Integer.getInteger("colaboradores", 200);
+
+    private final HttpProtocolBuilder protocolo = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .shareConnections();
+
+    private static Iterator<Map<String, Object>> consultas() {
+        Random random = new Random();
+        YearMonth mes = YearMonth.now().minusMonths(1);
+        return Stream.generate(() -> {
+            StringJoiner grupo = new StringJoiner(",");
+            for (int i = 0; i < 20; i++) {
+                grupo.add(String.valueOf(1 + random.nextInt(COLABORADORES)));
+            }
+            Map<String, Object> datos = new HashMap<>();
+            datos.put("mes", mes.getMonthValue());
+            datos.put("anio", mes.getYear());
+            datos.put("inicioMes", mes.atDay(1).toString());
+            datos.put("finMes", mes.atEndOfMonth().toString());
+            datos.put("grupo", grupo.toString());
+            return datos;
+        }).iterator();
+    }
+
+    private final ScenarioBuilder reportes = scenario("Reportes de cierre de mes")
+            .feed(consultas())
+            .randomSwitch().on(
+                    percent(40.0).then(exec(http("reporte horas")
+                            .get("/api/turnos/reporte?fechaInicio=#{inicioMes}&fechaFin=#{finMes}&colaboradores=#{grupo}"))),
+                    percent(20.0).then(exec(http("reporte feriados")
+                            .get("/api/turnos/reporte/feriados?fechaInicio=#{inicioMes}&fechaFin=#{finMes}&colaboradores=#{grupo}"))),
+                    percent(40.0).then(exec(http("resumen mensual")
+                            .get("/api/turnos/resumen-mensual?mes=#{mes}&anio=#{anio}&colaboradores=#{grupo}")))
+            );
+
+    {
+        setUp(
+                reportes.injectOpen(
+                        rampUsersPerSec(1).to(TASA).during(RAMPA),
+                        constantUsersPerSec(TASA).during(DURACION)
+                )
+        ).protocols(protocolo)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+}
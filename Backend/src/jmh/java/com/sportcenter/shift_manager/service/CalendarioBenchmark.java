@@ -0,0 +1,34 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+// Semanas de cada mes del año, como las pide la grilla al cambiar de mes
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarioBenchmark {
+
+    private TurnoService turnoService;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        turnoService = DatosSinteticos.turnoService(mock(TurnoRepository.class), mock(ColaboradorRepository.class), mock(ResumenHorasService.class));
+    }
+
+    @Benchmark
+    public void calcularSemanasDelMes(Blackhole blackhole) {
+        for (int mes = 1; mes <= 12; mes++) {
+            blackhole.consume(turnoService.calcularSemanasDelMes(mes, DatosSinteticos.ANIO));
+        }
+    }
+}
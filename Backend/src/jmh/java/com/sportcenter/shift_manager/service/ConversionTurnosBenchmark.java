@@ -0,0 +1,62 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.CalculadoraHoras;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+// Cálculos por turno: entidad → DTO (incluye la consulta al calendario de feriados) y minutos/almuerzo
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionTurnosBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int turnos;
+
+    private List<Turno> datos;
+    private TurnoService turnoService;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        datos = DatosSinteticos.turnos(turnos);
+        turnoService = DatosSinteticos.turnoService(mock(TurnoRepository.class), mock(ColaboradorRepository.class), mock(ResumenHorasService.class));
+    }
+
+    @Benchmark
+    public void convertToDTO(Blackhole blackhole) {
+        for (Turno turno : datos) {
+            blackhole.consume(turnoService.convertToDTO(turno));
+        }
+    }
+
+    @Benchmark
+    public long minutosTrabajados() {
+        long total = 0;
+        for (Turno turno : datos) {
+            total += CalculadoraHoras.minutosTrabajados(turno.getHoraEntrada(), turno.getHoraSalida());
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int tomoAlmuerzo() {
+        int total = 0;
+        for (Turno turno : datos) {
+            if (CalculadoraHoras.tomoAlmuerzo(turno.getHoraEntrada(), turno.getHoraSalida())) {
+                total++;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,159 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.ColaboradorNombreDTO;
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.model.CalculadoraHoras;
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.Empresa;
+import com.sportcenter.shift_manager.model.Feriado;
+import com.sportcenter.shift_manager.model.ResumenHorasMes;
+import com.sportcenter.shift_manager.model.Tienda;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.FeriadoRepository;
+import com.sportcenter.shift_manager.repository.GeneracionMaestrosRepository;
+import com.sportcenter.shift_manager.repository.TiendaRepository;
+import com.sportcenter.shift_manager.repository.TurnoEliminadoRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Datos de prueba deterministas para los benchmarks: siempre la misma semilla, así las corridas son comparables.
+// Marzo de 2025, unos 100 turnos por colaborador, 5 empresas y 10 tiendas.
+final class DatosSinteticos {
+    static final int MES = 3;
+    static final int ANIO = 2025;
+    static final int TURNOS_POR_COLABORADOR = 100;
+
+    private static final long SEMILLA = 42L;
+    private static final int EMPRESAS = 5;
+    private static final int TIENDAS = 10;
+
+    private DatosSinteticos() {
+    }
+
+    static int colaboradores(int turnos) {
+        return Math.max(1, turnos / TURNOS_POR_COLABORADOR);
+    }
+
+    static List<Turno> turnos(int cantidad) {
+        Random random = new Random(SEMILLA);
+        List<Empresa> empresas = new ArrayList<>();
+        for (long i = 1; i <= EMPRESAS; i++) {
+            Empresa empresa = new Empresa();
+            empresa.setId(i);
+            empresa.setNombre("Empresa " + i);
+            empresas.add(empresa);
+        }
+        List<Tienda> tiendas = new ArrayList<>();
+        for (long i = 1; i <= TIENDAS; i++) {
+            Tienda tienda = new Tienda();
+            tienda.setId(i);
+            tienda.setNombre("Tienda " + i);
+            tiendas.add(tienda);
+        }
+        List<Colaborador> colaboradores = new ArrayList<>();
+        for (long i = 1; i <= colaboradores(cantidad); i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setId(i);
+            colaborador.setNombre("Colab" + i);
+            colaborador.setDni(String.format("%08d", i));
+            colaborador.setEmpresa(empresas.get((int) (i % EMPRESAS)));
+            colaboradores.add(colaborador);
+        }
+
+        List<Turno> turnos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            Colaborador colaborador = colaboradores.get(i % colaboradores.size());
+            LocalTime entrada = LocalTime.of(6 + random.nextInt(8), random.nextBoolean() ? 0 : 30);
+            LocalTime salida = entrada.plusHours(4 + random.nextInt(6));
+            Turno turno = new Turno();
+            turno.setId((long) i + 1);
+            turno.setColaborador(colaborador);
+            turno.setEmpresa(colaborador.getEmpresa());
+            turno.setTienda(tiendas.get(random.nextInt(TIENDAS)));
+            turno.setFecha(LocalDate.of(ANIO, MES, 1 + random.nextInt(31)));
+            turno.setHoraEntrada(entrada);
+            turno.setHoraSalida(salida);
+            turno.setMinutosTrabajados(CalculadoraHoras.minutosTrabajados(entrada, salida));
+            turno.setVersion(0L);
+            turno.setFechaActualizacion(Instant.EPOCH);
+            turnos.add(turno);
+        }
+        return turnos;
+    }
+
+    // Lo que devolvería la proyección JPQL para esos turnos
+    static List<TurnoDTO> proyeccion(List<Turno> turnos) {
+        List<TurnoDTO> dtos = new ArrayList<>(turnos.size());
+        for (Turno turno : turnos) {
+            dtos.add(new TurnoDTO(turno.getId(), turno.getColaborador().getId(), turno.getColaborador().getNombre(),
+                    turno.getColaborador().getDni(), turno.getEmpresa().getNombre(), turno.getEmpresa().getId(),
+                    turno.getTienda().getId(), turno.getTienda().getNombre(), turno.getFecha(),
+                    turno.getHoraEntrada(), turno.getHoraSalida(), turno.getMinutosTrabajados(),
+                    turno.getVersion(), turno.getFechaActualizacion()));
+        }
+        return dtos;
+    }
+
+    static List<MinutosTrabajadosDTO> minutosPorColaborador(List<Turno> turnos) {
+        long[] minutos = new long[colaboradores(turnos.size()) + 1];
+        for (Turno turno : turnos) {
+            minutos[turno.getColaborador().getId().intValue()] += turno.getMinutosTrabajados();
+        }
+        List<MinutosTrabajadosDTO> filas = new ArrayList<>();
+        for (int id = 1; id < minutos.length; id++) {
+            filas.add(new MinutosTrabajadosDTO((long) id, minutos[id]));
+        }
+        return filas;
+    }
+
+    static List<ResumenHorasMes> resumenesDelMes(List<MinutosTrabajadosDTO> minutos) {
+        List<ResumenHorasMes> resumenes = new ArrayList<>(minutos.size());
+        for (MinutosTrabajadosDTO fila : minutos) {
+            resumenes.add(new ResumenHorasMes(fila.getColaboradorId(), fila.getColaboradorId(), ANIO, MES,
+                    fila.getMinutos().intValue(), 0, 0, TURNOS_POR_COLABORADOR));
+        }
+        return resumenes;
+    }
+
+    static List<ColaboradorNombreDTO> nombres(int turnos) {
+        List<ColaboradorNombreDTO> nombres = new ArrayList<>();
+        for (long id = 1; id <= colaboradores(turnos); id++) {
+            nombres.add(new ColaboradorNombreDTO(id, "Colab" + id));
+        }
+        return nombres;
+    }
+
+    static FeriadoService feriadoService() {
+        FeriadoRepository feriadoRepository = mock(FeriadoRepository.class);
+        when(feriadoRepository.findAll()).thenReturn(List.of(
+                new Feriado(null, LocalDate.of(ANIO, 1, 1), "Año Nuevo"),
+                new Feriado(null, LocalDate.of(ANIO, 4, 17), "Jueves Santo"),
+                new Feriado(null, LocalDate.of(ANIO, 5, 1), "Día del Trabajo"),
+                new Feriado(null, LocalDate.of(ANIO, 7, 28), "Fiestas Patrias"),
+                new Feriado(null, LocalDate.of(ANIO, 12, 25), "Navidad")
+        ));
+        FeriadoService feriadoService = new FeriadoService(feriadoRepository, new VersionMaestros(mock(GeneracionMaestrosRepository.class)));
+        feriadoService.recargarCalendario();
+        return feriadoService;
+    }
+
+    // TurnoService con repositorios simulados; los benchmarks configuran solo las consultas que usan
+    static TurnoService turnoService(TurnoRepository turnoRepository, ColaboradorRepository colaboradorRepository,
+                                     ResumenHorasService resumenHorasService) {
+        return new TurnoService(turnoRepository, mock(TurnoEliminadoRepository.class), colaboradorRepository,
+                mock(TiendaRepository.class), mock(TiendaService.class), feriadoService(),
+                resumenHorasService, mock(ApplicationEventPublisher.class));
+    }
+}
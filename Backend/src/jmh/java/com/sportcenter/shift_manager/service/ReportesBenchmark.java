@@ -0,0 +1,84 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.ColaboradorNombreDTO;
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Agregación en memoria de la grilla semanal y los reportes, con las consultas ya resueltas (repositorios simulados):
+// mide solo lo que hace TurnoService con las filas, no la base de datos.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportesBenchmark {
+
+    private static final String INICIO = "2025-03-01";
+    private static final String FIN = "2025-03-31";
+
+    @Param({"10000", "100000", "1000000"})
+    int turnos;
+
+    private TurnoService turnoService;
+    private List<Long> colaboradores;
+    private List<MinutosTrabajadosDTO> minutos;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Turno> entidades = DatosSinteticos.turnos(turnos);
+        List<TurnoDTO> proyeccion = DatosSinteticos.proyeccion(entidades);
+        minutos = DatosSinteticos.minutosPorColaborador(entidades);
+        List<ColaboradorNombreDTO> nombres = DatosSinteticos.nombres(turnos);
+        colaboradores = nombres.stream().map(ColaboradorNombreDTO::getId).toList();
+
+        TurnoRepository turnoRepository = mock(TurnoRepository.class);
+        when(turnoRepository.findDTOByColaboradorIdInAndFechaBetween(any(), any(), any())).thenReturn(proyeccion);
+        when(turnoRepository.findDTOByFechaBetween(any(), any())).thenReturn(proyeccion);
+        ColaboradorRepository colaboradorRepository = mock(ColaboradorRepository.class);
+        when(colaboradorRepository.findNombresByIdIn(any())).thenReturn(nombres);
+        ResumenHorasService resumenHorasService = mock(ResumenHorasService.class);
+        when(resumenHorasService.minutosPorColaboradores(any(), any(), any())).thenReturn(minutos);
+        when(resumenHorasService.minutosPorColaborador(any(), any())).thenReturn(minutos);
+        when(resumenHorasService.resumenesDelMes(any(), anyInt(), anyInt())).thenReturn(DatosSinteticos.resumenesDelMes(minutos));
+
+        // El stub devuelve todos los turnos para cualquier rango, también para la semana
+        turnoService = DatosSinteticos.turnoService(turnoRepository, colaboradorRepository, resumenHorasService);
+    }
+
+    // Grilla semanal: feriados por turno y horas de la semana por colaborador
+    @Benchmark
+    public List<TurnoDTO> turnosPorSemanaEstricta() {
+        return turnoService.getTurnosPorSemanaEstricta(DatosSinteticos.MES, DatosSinteticos.ANIO, 2);
+    }
+
+    // Reporte de horas: incluye el distinct() sobre los DTO
+    @Benchmark
+    public List<TurnoDTO> horasTrabajadasPorColaboradores() {
+        return turnoService.getHorasTrabajadasPorColaboradores(colaboradores, INICIO, FIN);
+    }
+
+    @Benchmark
+    public List<ResumenMensualDTO> resumenMensualConTurnos() {
+        return turnoService.getResumenMensualPorColaboradores(colaboradores, DatosSinteticos.MES, DatosSinteticos.ANIO, true);
+    }
+
+    @Benchmark
+    public Map<Long, Double> horasPorColaborador() {
+        return TurnoService.horasPorColaborador(minutos);
+    }
+}
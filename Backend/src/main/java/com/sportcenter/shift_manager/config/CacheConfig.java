@@ -0,0 +1,15 @@
+package com.sportcenter.shift_manager.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caché local (Caffeine) para datos maestros que cambian muy poco.
+// Tamaño y TTL se configuran con spring.cache.caffeine.spec; cada alta, cambio o baja vacía su caché.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String EMPRESAS = "empresas";
+    public static final String TIENDAS = "tiendas";
+    public static final String PUESTOS = "puestos";
+    public static final String FERIADOS = "feriados";
+}
@@ -0,0 +1,102 @@
+package com.sportcenter.shift_manager.config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Sentencias SQL y tiempo de base de datos de la petición en curso. Lo alimentan dos ganchos de Hibernate:
+// Inspector (cada sentencia preparada, con su texto) y Tiempos (duración de cada ejecución JDBC).
+// Fuera de una petición (tareas programadas, hilos de fondo) no hay contador y los ganchos no hacen nada;
+// la tarea asíncrona de una petición (exportaciones en streaming) sigue con el de la petición (ver continuar).
+public final class ContadorSql {
+    private static final ThreadLocal<ContadorSql> ACTUAL = new ThreadLocal<>();
+
+    private int sentencias;
+    private long nanos;
+    private final Map<String, Integer> repeticiones = new HashMap<>();
+
+    private ContadorSql() {
+    }
+
+    static ContadorSql iniciar() {
+        ContadorSql contador = new ContadorSql();
+        ACTUAL.set(contador);
+        return contador;
+    }
+
+    // Retoma en otro hilo el contador de una petición que pasó a procesarse de forma asíncrona
+    static void continuar(ContadorSql contador) {
+        ACTUAL.set(contador);
+    }
+
+    static void terminar() {
+        ACTUAL.remove();
+    }
+
+    static ContadorSql actual() {
+        return ACTUAL.get();
+    }
+
+    public int getSentencias() {
+        return sentencias;
+    }
+
+    public long getMilisegundos() {
+        return nanos / 1_000_000;
+    }
+
+    // La sentencia que más se repitió y cuántas veces: un N+1 aparece como la misma consulta ejecutada N veces
+    public Map.Entry<String, Integer> getMasRepetida() {
+        return repeticiones.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    // Registrado como hibernate.session_factory.statement_inspector; no modifica la sentencia
+    public static class Inspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            ContadorSql contador = ACTUAL.get();
+            if (contador != null) {
+                contador.sentencias++;
+                contador.repeticiones.merge(sql, 1, Integer::sum);
+            }
+            return sql;
+        }
+    }
+
+    // Registrado como hibernate.session.events.auto: Hibernate crea uno por sesión con el constructor vacío
+    public static class Tiempos extends BaseSessionEventListener {
+        private long inicioSentencia;
+        private long inicioLote;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            inicioSentencia = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            sumar(System.nanoTime() - inicioSentencia);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            inicioLote = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            sumar(System.nanoTime() - inicioLote);
+        }
+
+        private static void sumar(long duracion) {
+            ContadorSql contador = ACTUAL.get();
+            if (contador != null) {
+                contador.nanos += duracion;
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Link", "X-Next-Cursor", "X-Total-Count", "ETag") // Metadatos de paginación y GET condicional
                 .allowCredentials(true)
                 .maxAge(3600);
     }
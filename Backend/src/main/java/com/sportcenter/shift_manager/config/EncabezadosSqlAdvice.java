@@ -0,0 +1,32 @@
+package com.sportcenter.shift_manager.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Los encabezados de PresupuestoSqlFilter deben escribirse antes que el cuerpo: al terminar el filtro
+// la respuesta ya está confirmada. Las sentencias del propio serializado no alcanzan a contarse.
+@ControllerAdvice
+public class EncabezadosSqlAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        ContadorSql contador = ContadorSql.actual();
+        if (contador != null) {
+            response.getHeaders().set(PresupuestoSqlFilter.ENCABEZADO_SENTENCIAS, String.valueOf(contador.getSentencias()));
+            response.getHeaders().set(PresupuestoSqlFilter.ENCABEZADO_TIEMPO, String.valueOf(contador.getMilisegundos()));
+        }
+        return body;
+    }
+}
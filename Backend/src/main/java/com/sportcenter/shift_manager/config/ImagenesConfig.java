@@ -0,0 +1,30 @@
+package com.sportcenter.shift_manager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.file.Path;
+
+// Con el almacén local, las fotos se sirven como recursos estáticos
+@Configuration
+@ConditionalOnProperty(name = "imagenes.almacen", havingValue = "local")
+public class ImagenesConfig implements WebMvcConfigurer {
+    private final String directorio;
+    private final String urlBase;
+
+    public ImagenesConfig(
+            @Value("${imagenes.local.directorio:fotos}") String directorio,
+            @Value("${imagenes.local.url-base:/fotos/}") String urlBase) {
+        this.directorio = directorio;
+        this.urlBase = urlBase.endsWith("/") ? urlBase : urlBase + "/";
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(urlBase + "**")
+                .addResourceLocations("file:" + Path.of(directorio).toAbsolutePath() + "/");
+    }
+}
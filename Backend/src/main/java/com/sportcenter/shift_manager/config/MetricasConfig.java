@@ -0,0 +1,29 @@
+package com.sportcenter.shift_manager.config;
+
+import com.sportcenter.shift_manager.service.FeriadoService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Métricas propias; las de HTTP, repositorios, Hikari y cachés las registra Spring Boot.
+// isFeriado se llama por cada turno convertido: se leen sus contadores en vez de sumar un Counter por llamada.
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public MeterBinder metricasFeriados(FeriadoService feriadoService) {
+        return registry -> {
+            FunctionCounter.builder("feriados.consultas", feriadoService, FeriadoService::getConsultasCalendario)
+                    .description("Llamadas a isFeriado, todas resueltas con el calendario en memoria")
+                    .register(registry);
+            FunctionCounter.builder("feriados.consultas.sin.calendario", feriadoService, FeriadoService::getConsultasSinCalendario)
+                    .description("Llamadas a isFeriado para un año sin feriados registrados")
+                    .register(registry);
+            Gauge.builder("feriados.calendario", feriadoService, FeriadoService::getTotalFeriadosEnCalendario)
+                    .description("Feriados cargados en el calendario en memoria")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.sportcenter.shift_manager.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Engancha ContadorSql a Hibernate; el conteo por petición y el presupuesto están en PresupuestoSqlFilter
+@Configuration
+public class PresupuestoSqlConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorSqlHibernate() {
+        return propiedades -> {
+            propiedades.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorSql.Inspector());
+            propiedades.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, ContadorSql.Tiempos.class.getName());
+        };
+    }
+}
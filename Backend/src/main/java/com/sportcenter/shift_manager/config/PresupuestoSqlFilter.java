@@ -0,0 +1,132 @@
+package com.sportcenter.shift_manager.config;
+
+import com.sportcenter.shift_manager.exception.PresupuestoSqlExcedidoException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+// Cuenta las sentencias SQL y el tiempo de base de datos de cada petición, los devuelve en encabezados
+// y avisa cuando un endpoint supera su presupuesto (sql.presupuesto.maximo, o el de sql.presupuesto.endpoints
+// para su patrón). Con sql.presupuesto.estricto=true, en vez de avisar, lanza la excepción: los tests fallan.
+// Las respuestas asíncronas (StreamingResponseBody de las exportaciones, SSE) consultan en otro hilo cuando el
+// filtro ya volvió: el contador pasa a esa tarea y el presupuesto se revisa en el despacho asíncrono final.
+// Esas respuestas van sin encabezados: cuando se conoce el total, la respuesta ya está confirmada.
+@Component
+public class PresupuestoSqlFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(PresupuestoSqlFilter.class);
+
+    static final String ENCABEZADO_SENTENCIAS = "X-Sql-Sentencias";
+    static final String ENCABEZADO_TIEMPO = "X-Sql-Tiempo-Ms";
+    private static final String ATRIBUTO_CONTADOR = ContadorSql.class.getName();
+    private static final int LARGO_MAXIMO_SQL = 200;
+
+    private final boolean habilitado;
+    private final int maximo;
+    private final Map<String, Integer> presupuestoPorEndpoint;
+    private final boolean estricto;
+
+    public PresupuestoSqlFilter(
+            @Value("${sql.presupuesto.habilitado:true}") boolean habilitado,
+            @Value("${sql.presupuesto.maximo:30}") int maximo,
+            @Value("#{${sql.presupuesto.endpoints:{:}}}") Map<String, Integer> presupuestoPorEndpoint,
+            @Value("${sql.presupuesto.estricto:false}") boolean estricto) {
+        this.habilitado = habilitado;
+        this.maximo = maximo;
+        this.presupuestoPorEndpoint = presupuestoPorEndpoint;
+        this.estricto = estricto;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorSql contador;
+        if (isAsyncDispatch(request)) {
+            contador = (ContadorSql) request.getAttribute(ATRIBUTO_CONTADOR);
+            ContadorSql.continuar(contador);
+        } else {
+            contador = ContadorSql.iniciar();
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ATRIBUTO_CONTADOR, new ContadorEnTarea(contador));
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ContadorSql.terminar();
+        }
+        if (isAsyncStarted(request)) {
+            // La tarea asíncrona sigue sumando: se revisa al volver en el despacho asíncrono
+            request.setAttribute(ATRIBUTO_CONTADOR, contador);
+            return;
+        }
+        // Las respuestas con cuerpo ya los llevan (EncabezadosSqlAdvice); aquí quedan las sin cuerpo, como los 304
+        if (!response.isCommitted()) {
+            escribirEncabezados(response, contador);
+        }
+        revisarPresupuesto(request, contador);
+    }
+
+    private static void escribirEncabezados(HttpServletResponse response, ContadorSql contador) {
+        response.setHeader(ENCABEZADO_SENTENCIAS, String.valueOf(contador.getSentencias()));
+        response.setHeader(ENCABEZADO_TIEMPO, String.valueOf(contador.getMilisegundos()));
+    }
+
+    private void revisarPresupuesto(HttpServletRequest request, ContadorSql contador) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String ruta = patron != null ? patron.toString() : request.getRequestURI();
+        String endpoint = request.getMethod() + " " + ruta;
+        int presupuesto = presupuestoPorEndpoint.getOrDefault(ruta, maximo);
+
+        if (contador.getSentencias() <= presupuesto) {
+            log.debug("{}: {} sentencias SQL en {} ms", endpoint, contador.getSentencias(), contador.getMilisegundos());
+            return;
+        }
+        Map.Entry<String, Integer> masRepetida = contador.getMasRepetida();
+        String mensaje = String.format("%s ejecutó %d sentencias SQL (presupuesto %d) en %d ms; la más repetida, %d veces: %s",
+                endpoint, contador.getSentencias(), presupuesto, contador.getMilisegundos(),
+                masRepetida.getValue(), abreviar(masRepetida.getKey()));
+        if (estricto) {
+            throw new PresupuestoSqlExcedidoException(mensaje);
+        }
+        log.warn(mensaje);
+    }
+
+    // Corre en el hilo de la tarea (StreamingResponseBody o Callable), antes y después de ejecutarla
+    private record ContadorEnTarea(ContadorSql contador) implements CallableProcessingInterceptor {
+        @Override
+        public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+            ContadorSql.continuar(contador);
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            ContadorSql.terminar();
+        }
+    }
+
+    private static String abreviar(String sql) {
+        return sql.length() <= LARGO_MAXIMO_SQL ? sql : sql.substring(0, LARGO_MAXIMO_SQL) + "...";
+    }
+}
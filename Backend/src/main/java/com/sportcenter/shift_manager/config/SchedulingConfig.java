@@ -0,0 +1,10 @@
+package com.sportcenter.shift_manager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Tareas periódicas de mantenimiento (p. ej. la purga de lápidas de turnos eliminados)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
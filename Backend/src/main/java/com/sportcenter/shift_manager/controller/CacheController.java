@@ -0,0 +1,31 @@
+package com.sportcenter.shift_manager.controller;
+
+import com.sportcenter.shift_manager.dto.EstadisticasCacheDTO;
+import com.sportcenter.shift_manager.service.EstadisticasCacheService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+    private final EstadisticasCacheService estadisticasCacheService;
+
+    public CacheController(EstadisticasCacheService estadisticasCacheService) {
+        this.estadisticasCacheService = estadisticasCacheService;
+    }
+
+    // Aciertos, fallos y tamaño de cada caché de datos maestros
+    @GetMapping("/estadisticas")
+    public ResponseEntity<List<EstadisticasCacheDTO>> getEstadisticas() {
+        return ResponseEntity.ok(estadisticasCacheService.getEstadisticas());
+    }
+
+    // Vacía una caché a mano (p. ej. tras editar datos maestros directamente en la base)
+    @DeleteMapping("/{nombre}")
+    public ResponseEntity<Void> vaciar(@PathVariable String nombre) {
+        estadisticasCacheService.vaciar(nombre);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.sportcenter.shift_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sportcenter.shift_manager.dto.ColaboradorDTO;
 import com.sportcenter.shift_manager.model.Colaborador;
 import com.sportcenter.shift_manager.service.ColaboradorService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -15,9 +17,11 @@ import java.util.List;
 @RequestMapping("/api/colaboradores")
 public class ColaboradorController {
     private final ColaboradorService colaboradorService;
+    private final ObjectMapper objectMapper;
 
-    public ColaboradorController(ColaboradorService colaboradorService) {
+    public ColaboradorController(ColaboradorService colaboradorService, ObjectMapper objectMapper) {
         this.colaboradorService = colaboradorService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -29,9 +33,19 @@ public class ColaboradorController {
         return ResponseEntity.ok(colaboradorResponse);
     }
 
+    // Sin page/size devuelve la tabla completa, como antes; con ellos, una página ordenada por id
     @GetMapping
-    public ResponseEntity<List<ColaboradorDTO>> getAllColaboradores() {
-        return ResponseEntity.ok(colaboradorService.getAllColaboradores());
+    public ResponseEntity<List<?>> getAllColaboradores(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (page == null && size == null) {
+            return ResponseEntity.ok(RespuestaLista.seleccionarCampos(objectMapper, colaboradorService.getAllColaboradores(), fields));
+        }
+        Page<ColaboradorDTO> pagina = colaboradorService.getColaboradores(RespuestaLista.paginaPorId(page, size));
+        return ResponseEntity.ok()
+                .headers(RespuestaLista.cabecerasPagina(pagina))
+                .body(RespuestaLista.seleccionarCampos(objectMapper, pagina.getContent(), fields));
     }
 
     @GetMapping("/empresa/{empresaId}")
@@ -1,9 +1,11 @@
 package com.sportcenter.shift_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sportcenter.shift_manager.dto.EmpresaDTO;
 import com.sportcenter.shift_manager.model.Empresa;
 import com.sportcenter.shift_manager.service.EmpresaService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,9 +15,11 @@ import java.util.List;
 @RequestMapping("/api/empresas")
 public class EmpresaController {
     private final EmpresaService empresaService;
+    private final ObjectMapper objectMapper;
 
-    public EmpresaController(EmpresaService empresaService) {
+    public EmpresaController(EmpresaService empresaService, ObjectMapper objectMapper) {
         this.empresaService = empresaService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -24,9 +28,19 @@ public class EmpresaController {
         return ResponseEntity.ok(empresaService.convertToDTO(savedEmpresa));
     }
 
+    // Sin page/size devuelve la tabla completa, como antes; con ellos, una página ordenada por id
     @GetMapping
-    public ResponseEntity<List<EmpresaDTO>> getAllEmpresas() {
-        return ResponseEntity.ok(empresaService.getAllEmpresas());
+    public ResponseEntity<List<?>> getAllEmpresas(
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "fields", required = false) String fields) {
+        if (page == null && size == null) {
+            return ResponseEntity.ok(RespuestaLista.seleccionarCampos(objectMapper, empresaService.getAllEmpresas(), fields));
+        }
+        Page<EmpresaDTO> pagina = empresaService.getEmpresas(RespuestaLista.paginaPorId(page, size));
+        return ResponseEntity.ok()
+                .headers(RespuestaLista.cabecerasPagina(pagina))
+                .body(RespuestaLista.seleccionarCampos(objectMapper, pagina.getContent(), fields));
     }
 
     @GetMapping("/{id}/numero-empleados")
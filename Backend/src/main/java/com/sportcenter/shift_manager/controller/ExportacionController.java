@@ -0,0 +1,93 @@
+package com.sportcenter.shift_manager.controller;
+
+import com.sportcenter.shift_manager.service.ExportacionService;
+import com.sportcenter.shift_manager.service.ExportacionService.Formato;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Descarga de los reportes de turnos en XLSX (por defecto) o CSV (?formato=csv).
+// Los parámetros se validan antes de empezar a escribir; el archivo se genera mientras se envía.
+@RestController
+@RequestMapping("/api/turnos/exportar")
+public class ExportacionController {
+    private final ExportacionService exportacionService;
+
+    public ExportacionController(ExportacionService exportacionService) {
+        this.exportacionService = exportacionService;
+    }
+
+    @GetMapping("/reporte")
+    public ResponseEntity<StreamingResponseBody> exportarHorasTrabajadas(
+            @RequestParam("fechaInicio") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam("fechaFin") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(value = "colaboradores", required = false) String colaboradores,
+            @RequestParam(value = "formato", required = false) String formato) {
+        Formato formatoSalida = Formato.desde(formato);
+        List<Long> colaboradoresIds = parsearColaboradores(colaboradores);
+        return descarga("horas-trabajadas", formatoSalida, salida ->
+                exportacionService.exportarHorasTrabajadas(colaboradoresIds, fechaInicio, fechaFin, formatoSalida, salida));
+    }
+
+    @GetMapping("/reporte/feriados")
+    public ResponseEntity<StreamingResponseBody> exportarTurnosEnFeriados(
+            @RequestParam("fechaInicio") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam("fechaFin") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(value = "colaboradores", required = false) String colaboradores,
+            @RequestParam(value = "formato", required = false) String formato) {
+        Formato formatoSalida = Formato.desde(formato);
+        List<Long> colaboradoresIds = parsearColaboradores(colaboradores);
+        return descarga("turnos-feriados", formatoSalida, salida ->
+                exportacionService.exportarTurnosEnFeriados(colaboradoresIds, fechaInicio, fechaFin, formatoSalida, salida));
+    }
+
+    @GetMapping("/colab-tienda-fecha")
+    public ResponseEntity<StreamingResponseBody> exportarTurnosPorTienda(
+            @RequestParam("tiendaId") Long tiendaId,
+            @RequestParam("fechaInicio") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam("fechaFin") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(value = "formato", required = false) String formato) {
+        Formato formatoSalida = Formato.desde(formato);
+        return descarga("turnos-tienda", formatoSalida, salida ->
+                exportacionService.exportarTurnosPorTienda(tiendaId, fechaInicio, fechaFin, formatoSalida, salida));
+    }
+
+    @GetMapping("/resumen-mensual")
+    public ResponseEntity<StreamingResponseBody> exportarResumenMensual(
+            @RequestParam("mes") int mes,
+            @RequestParam("anio") int anio,
+            @RequestParam(value = "colaboradores", required = false) String colaboradores,
+            @RequestParam(value = "formato", required = false) String formato) {
+        Formato formatoSalida = Formato.desde(formato);
+        YearMonth periodo = ExportacionService.mesDelResumen(mes, anio);
+        List<Long> colaboradoresIds = parsearColaboradores(colaboradores);
+        return descarga("resumen-mensual", formatoSalida, salida ->
+                exportacionService.exportarResumenMensual(colaboradoresIds, periodo, formatoSalida, salida));
+    }
+
+    private static List<Long> parsearColaboradores(String colaboradores) {
+        return (colaboradores != null && !colaboradores.isEmpty())
+                ? Arrays.stream(colaboradores.split(",")).map(Long::parseLong).toList()
+                : new ArrayList<>();
+    }
+
+    private static ResponseEntity<StreamingResponseBody> descarga(String nombre, Formato formato, StreamingResponseBody cuerpo) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(nombre + "." + formato.getExtension())
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(formato.getContentType()))
+                .body(cuerpo);
+    }
+}
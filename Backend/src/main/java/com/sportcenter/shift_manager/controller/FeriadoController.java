@@ -1,5 +1,6 @@
 package com.sportcenter.shift_manager.controller;
 
+import com.sportcenter.shift_manager.dto.EstadisticasCalendarioDTO;
 import com.sportcenter.shift_manager.dto.FeriadoDTO;
 import com.sportcenter.shift_manager.service.FeriadoService;
 import org.springframework.http.ResponseEntity;
@@ -39,4 +40,14 @@ public class FeriadoController {
             return ResponseEntity.badRequest().body(false);
         }
     }
+
+    // Endpoint para consultar el uso del calendario de feriados en memoria
+    @GetMapping("/calendario/estadisticas")
+    public ResponseEntity<EstadisticasCalendarioDTO> getEstadisticasCalendario() {
+        return ResponseEntity.ok(new EstadisticasCalendarioDTO(
+                feriadoService.getConsultasCalendario(),
+                feriadoService.getConsultasSinCalendario(),
+                feriadoService.getTotalFeriadosEnCalendario()
+        ));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.sportcenter.shift_manager.controller;
+
+import com.sportcenter.shift_manager.dto.PlantillaSemanaDTO;
+import com.sportcenter.shift_manager.dto.ResultadoProgramacionDTO;
+import com.sportcenter.shift_manager.service.ProgramacionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/programacion")
+public class ProgramacionController {
+    private final ProgramacionService programacionService;
+
+    public ProgramacionController(ProgramacionService programacionService) {
+        this.programacionService = programacionService;
+    }
+
+    // Copia la semana de "origen" a "semanas" semanas a partir de la de "destino" (cualquier fecha de cada semana)
+    @PostMapping("/copiar-semana")
+    public ResponseEntity<ResultadoProgramacionDTO> copiarSemana(
+            @RequestParam("origen") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate origen,
+            @RequestParam("destino") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate destino,
+            @RequestParam(value = "semanas", defaultValue = "1") int semanas,
+            @RequestParam(value = "tiendaId", required = false) Long tiendaId) {
+        return ResponseEntity.ok(programacionService.copiarSemana(origen, destino, semanas, tiendaId));
+    }
+
+    @GetMapping("/plantillas")
+    public ResponseEntity<List<PlantillaSemanaDTO>> getPlantillas() {
+        return ResponseEntity.ok(programacionService.getPlantillas());
+    }
+
+    // Guarda la semana que contiene "fecha" como plantilla
+    @PostMapping("/plantillas")
+    public ResponseEntity<PlantillaSemanaDTO> guardarPlantilla(
+            @RequestParam("nombre") String nombre,
+            @RequestParam("fecha") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha,
+            @RequestParam(value = "tiendaId", required = false) Long tiendaId) {
+        return ResponseEntity.ok(programacionService.guardarPlantilla(nombre, fecha, tiendaId));
+    }
+
+    @PostMapping("/plantillas/{id}/aplicar")
+    public ResponseEntity<ResultadoProgramacionDTO> aplicarPlantilla(
+            @PathVariable Long id,
+            @RequestParam("destino") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate destino,
+            @RequestParam(value = "semanas", defaultValue = "1") int semanas) {
+        return ResponseEntity.ok(programacionService.aplicarPlantilla(id, destino, semanas));
+    }
+
+    @DeleteMapping("/plantillas/{id}")
+    public ResponseEntity<Void> eliminarPlantilla(@PathVariable Long id) {
+        programacionService.eliminarPlantilla(id);
+        return ResponseEntity.noContent().build();
+    }
+}
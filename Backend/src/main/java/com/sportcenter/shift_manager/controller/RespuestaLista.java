@@ -0,0 +1,91 @@
+package com.sportcenter.shift_manager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Utilidades compartidas por los endpoints de listado: selección de campos (fields=) y cabeceras de paginación
+final class RespuestaLista {
+    static final String CABECERA_SIGUIENTE_CURSOR = "X-Next-Cursor";
+    static final String CABECERA_TOTAL = "X-Total-Count";
+    static final int TAMANO_PAGINA_POR_DEFECTO = 50;
+    static final int TAMANO_PAGINA_MAXIMO = 500;
+
+    private RespuestaLista() {
+    }
+
+    // Con fields=a,b,c devuelve solo esas propiedades de cada elemento; sin fields devuelve la lista tal cual
+    static List<?> seleccionarCampos(ObjectMapper objectMapper, List<?> elementos, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return elementos;
+        }
+        Set<String> campos = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(campo -> !campo.isEmpty())
+                .collect(Collectors.toSet());
+        return elementos.stream()
+                .map(elemento -> {
+                    ObjectNode nodo = objectMapper.valueToTree(elemento);
+                    nodo.retain(campos);
+                    return nodo;
+                })
+                .toList();
+    }
+
+    // page empieza en 0; el orden por id mantiene estables las páginas entre peticiones
+    static Pageable paginaPorId(Integer page, Integer size) {
+        int numero = page != null ? page : 0;
+        int tamano = size != null ? size : TAMANO_PAGINA_POR_DEFECTO;
+        if (numero < 0) {
+            throw new IllegalArgumentException("El número de página no puede ser negativo");
+        }
+        if (tamano < 1 || tamano > TAMANO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANO_PAGINA_MAXIMO);
+        }
+        return PageRequest.of(numero, tamano, Sort.by("id"));
+    }
+
+    // Cabeceras para paginación por cursor: Link rel="next" y X-Next-Cursor
+    static HttpHeaders cabecerasCursor(String siguienteCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (siguienteCursor != null) {
+            String siguiente = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", siguienteCursor)
+                    .build()
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + siguiente + ">; rel=\"next\"");
+            headers.add(CABECERA_SIGUIENTE_CURSOR, siguienteCursor);
+        }
+        return headers;
+    }
+
+    // Cabeceras para paginación por página: X-Total-Count y Link rel="next"/"prev"
+    static HttpHeaders cabecerasPagina(Page<?> pagina) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(CABECERA_TOTAL, String.valueOf(pagina.getTotalElements()));
+        if (pagina.hasNext()) {
+            headers.add(HttpHeaders.LINK, "<" + enlacePagina(pagina.getNumber() + 1) + ">; rel=\"next\"");
+        }
+        if (pagina.hasPrevious()) {
+            headers.add(HttpHeaders.LINK, "<" + enlacePagina(pagina.getNumber() - 1) + ">; rel=\"prev\"");
+        }
+        return headers;
+    }
+
+    private static String enlacePagina(int numero) {
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("page", numero)
+                .build()
+                .toUriString();
+    }
+}
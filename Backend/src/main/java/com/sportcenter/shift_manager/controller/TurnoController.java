@@ -1,13 +1,26 @@
 package com.sportcenter.shift_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportcenter.shift_manager.dto.CambiosTurnosDTO;
+import com.sportcenter.shift_manager.dto.ConflictoTurnoDTO;
+import com.sportcenter.shift_manager.dto.PaginaTurnosDTO;
+import com.sportcenter.shift_manager.dto.ResultadoLoteTurnosDTO;
 import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
 import com.sportcenter.shift_manager.dto.TurnoDTO;
 import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.service.CambiosTurnosService;
+import com.sportcenter.shift_manager.service.DifusionTurnosService;
 import com.sportcenter.shift_manager.service.TurnoService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -16,9 +29,15 @@ import java.util.List;
 @RequestMapping("/api/turnos")
 public class TurnoController {
     private final TurnoService turnoService;
+    private final CambiosTurnosService cambiosTurnosService;
+    private final DifusionTurnosService difusionTurnosService;
+    private final ObjectMapper objectMapper;
 
-    public TurnoController(TurnoService turnoService) {
+    public TurnoController(TurnoService turnoService, CambiosTurnosService cambiosTurnosService, DifusionTurnosService difusionTurnosService, ObjectMapper objectMapper) {
         this.turnoService = turnoService;
+        this.cambiosTurnosService = cambiosTurnosService;
+        this.difusionTurnosService = difusionTurnosService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -27,9 +46,57 @@ public class TurnoController {
         return ResponseEntity.ok(savedTurno);
     }
 
+    // Alta de varios turnos en una transacción. Por defecto todo o nada (400 con el detalle por turno si alguno falla);
+    // con parcial=true se guardan los válidos y se informan los rechazados.
+    @PostMapping("/batch")
+    public ResponseEntity<ResultadoLoteTurnosDTO> saveTurnos(
+            @RequestBody List<Turno> turnos,
+            @RequestParam(value = "parcial", defaultValue = "false") boolean parcial) {
+        ResultadoLoteTurnosDTO resultado = turnoService.saveTurnos(turnos, parcial);
+        if (!resultado.isConfirmado()) {
+            return ResponseEntity.badRequest().body(resultado);
+        }
+        return ResponseEntity.ok(resultado);
+    }
+
+    // Turnos superpuestos en la programación del mes
+    @GetMapping("/conflictos")
+    public ResponseEntity<List<ConflictoTurnoDTO>> getConflictos(
+            @RequestParam("mes") int mes,
+            @RequestParam("anio") int anio) {
+        return ResponseEntity.ok(turnoService.getConflictosDelMes(mes, anio));
+    }
+
+    // Turnos del rango creados, editados o eliminados desde el token; sin desde devuelve solo el token inicial
+    @GetMapping("/cambios")
+    public ResponseEntity<CambiosTurnosDTO> getCambios(
+            @RequestParam(value = "desde", required = false) String desde,
+            @RequestParam("inicio") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam("fin") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fin) {
+        return ResponseEntity.ok(cambiosTurnosService.getCambios(desde, inicio, fin));
+    }
+
+    // Canal SSE: lotes de eventos "turnos" cada 100 ms con los turnos confirmados de la tienda y/o la semana
+    // (cualquier día de ella). Los eventos solo identifican el turno; los datos se piden con /cambios.
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribirEventos(
+            @RequestParam(value = "tiendaId", required = false) Long tiendaId,
+            @RequestParam(value = "semana", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate semana) {
+        return difusionTurnosService.suscribir(tiendaId, semana);
+    }
+
+    // Historial del colaborador, del más reciente al más antiguo, en páginas de "limite" turnos.
+    // La siguiente página se pide con el cursor de las cabeceras Link / X-Next-Cursor.
     @GetMapping("/{colaboradorId}")
-    public ResponseEntity<List<TurnoDTO>> getTurnosByColaborador(@PathVariable Long colaboradorId) {
-        return ResponseEntity.ok(turnoService.getTurnosByColaboradorId(colaboradorId));
+    public ResponseEntity<List<?>> getTurnosByColaborador(
+            @PathVariable Long colaboradorId,
+            @RequestParam(value = "limite", required = false) Integer limite,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "fields", required = false) String fields) {
+        PaginaTurnosDTO pagina = turnoService.getTurnosByColaboradorId(colaboradorId, limite, cursor);
+        return ResponseEntity.ok()
+                .headers(RespuestaLista.cabecerasCursor(pagina.getSiguienteCursor()))
+                .body(RespuestaLista.seleccionarCampos(objectMapper, pagina.getTurnos(), fields));
     }
 
     @GetMapping
@@ -45,11 +112,18 @@ public class TurnoController {
         return ResponseEntity.ok(turnoService.getTurnosMensualesPorColaborador(colaboradorId, mes, anio));
     }
 
+    // GET condicional: con If-None-Match vigente responde 304 sin consultar los turnos
     @GetMapping("/mensual")
     public ResponseEntity<List<TurnoDTO>> getTurnosMensuales(
             @RequestParam("mes") int mes,
-            @RequestParam("anio") int anio) {
-        return ResponseEntity.ok(turnoService.getTurnosMensuales(mes, anio));
+            @RequestParam("anio") int anio,
+            WebRequest request) {
+        if (request.checkNotModified(turnoService.getEtagMensual(mes, anio))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(turnoService.getTurnosMensuales(mes, anio));
     }
 
     @PutMapping("/{id}")
@@ -64,19 +138,31 @@ public class TurnoController {
         return ResponseEntity.noContent().build();
     }
 
+    // Por defecto solo devuelve la estructura de semanas; con incluirHoras=true agrega las horas por colaborador
     @GetMapping("/semanas-del-mes")
-    public ResponseEntity<List<List<String>>> getSemanasDelMes(
+    public ResponseEntity<?> getSemanasDelMes(
             @RequestParam("mes") int mes,
-            @RequestParam("anio") int anio) {
+            @RequestParam("anio") int anio,
+            @RequestParam(value = "incluirHoras", defaultValue = "false") boolean incluirHoras) {
+        if (incluirHoras) {
+            return ResponseEntity.ok(turnoService.calcularSemanasDelMesConHoras(mes, anio));
+        }
         return ResponseEntity.ok(turnoService.calcularSemanasDelMes(mes, anio));
     }
 
+    // GET condicional, igual que /mensual
     @GetMapping("/semanal-estricto")
     public ResponseEntity<List<TurnoDTO>> getTurnosPorSemanaEstricta(
             @RequestParam("mes") int mes,
             @RequestParam("anio") int anio,
-            @RequestParam("semana") int numeroSemana) {
-        return ResponseEntity.ok(turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana));
+            @RequestParam("semana") int numeroSemana,
+            WebRequest request) {
+        if (request.checkNotModified(turnoService.getEtagSemanaEstricta(mes, anio, numeroSemana))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana));
     }
 
     @GetMapping("/colab-tienda-fecha")
@@ -110,13 +196,16 @@ public class TurnoController {
     }
 
     @GetMapping("/resumen-mensual")
-    public ResponseEntity<List<ResumenMensualDTO>> getResumenMensual(
+    public ResponseEntity<List<?>> getResumenMensual(
             @RequestParam("mes") int mes,
             @RequestParam("anio") int anio,
-            @RequestParam(value = "colaboradores", required = false) String colaboradores) {
+            @RequestParam(value = "colaboradores", required = false) String colaboradores,
+            @RequestParam(value = "incluirTurnos", defaultValue = "true") boolean incluirTurnos,
+            @RequestParam(value = "fields", required = false) String fields) {
         List<Long> colaboradoresIds = (colaboradores != null && !colaboradores.isEmpty())
                 ? Arrays.stream(colaboradores.split(",")).map(Long::parseLong).toList()
                 : new ArrayList<>();
-        return ResponseEntity.ok(turnoService.getResumenMensualPorColaboradores(colaboradoresIds, mes, anio));
+        List<ResumenMensualDTO> resumen = turnoService.getResumenMensualPorColaboradores(colaboradoresIds, mes, anio, incluirTurnos);
+        return ResponseEntity.ok(RespuestaLista.seleccionarCampos(objectMapper, resumen, fields));
     }
 }
@@ -0,0 +1,20 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Delta de turnos de un rango desde el token del cliente. Se aplican primero los eliminados y luego los
+// cambiados (alta o reemplazo por id). horasTotalesSemana no viene calculado: depende del resto de la semana.
+// Con recargar=true el cliente debe volver a pedir el rango completo (token vencido o demasiados cambios).
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CambiosTurnosDTO {
+    private List<TurnoDTO> cambiados;
+    private List<TurnoEliminadoDTO> eliminados;
+    private String token;
+    private boolean recargar;
+}
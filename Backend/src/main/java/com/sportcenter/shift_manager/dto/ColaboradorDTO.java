@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
@@ -37,10 +38,15 @@ public class ColaboradorDTO {
 
     private String empresaNombre;
     private String fotoUrl;
+    private String fotoEstado; // PENDIENTE mientras la foto nueva se sube en segundo plano
     private boolean habilitado;
 
     private LocalDate fechaNacimiento;
 
     private Long puestoId;
     private String puestoNombre;
+
+    // Versión leída por el cliente; al actualizar, si no coincide con la actual se responde 409
+    private Long version;
+    private Instant fechaActualizacion;
 }
@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Proyección mínima de colaborador para reportes que solo necesitan el nombre
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ColaboradorNombreDTO {
+    private Long id;
+    private String nombre;
+}
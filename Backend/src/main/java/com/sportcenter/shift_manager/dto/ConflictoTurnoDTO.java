@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Turno que se superpone con otro ya programado para el mismo colaborador
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictoTurnoDTO {
+    private TurnoDTO turno;
+    private Long turnoSolapadoId;
+}
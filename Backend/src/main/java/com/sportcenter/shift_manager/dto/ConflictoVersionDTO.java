@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Cuerpo de la respuesta 409 por bloqueo optimista: el mensaje y el registro tal como está ahora
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConflictoVersionDTO {
+    private String mensaje;
+    private Object actual;
+}
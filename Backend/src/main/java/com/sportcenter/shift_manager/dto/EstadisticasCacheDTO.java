@@ -0,0 +1,17 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasCacheDTO {
+    private String nombre;
+    private long aciertos;
+    private long fallos;
+    private double tasaAciertos;
+    private long desalojos;
+    private long entradas;
+}
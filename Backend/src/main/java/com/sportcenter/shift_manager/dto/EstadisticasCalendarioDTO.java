@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadisticasCalendarioDTO {
+    private long consultas;
+    private long consultasSinCalendario;
+    private int totalFeriados;
+}
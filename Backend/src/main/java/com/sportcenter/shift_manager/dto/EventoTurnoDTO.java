@@ -0,0 +1,23 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Aviso compacto de un turno confirmado en base, para el canal en vivo (/api/turnos/eventos).
+// Si el turno cambia de día o de tienda se emite ELIMINADO con los datos anteriores y GUARDADO con los nuevos.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoTurnoDTO {
+    public static final String GUARDADO = "GUARDADO";
+    public static final String ELIMINADO = "ELIMINADO";
+
+    private String tipo;
+    private Long turnoId;
+    private Long colaboradorId;
+    private Long tiendaId;
+    private LocalDate fecha;
+}
@@ -0,0 +1,17 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Eventos de una ventana de envío, uno por turno (el último). Con recargar=true el cliente se quedó atrás,
+// se descartaron eventos y debe pedir el delta con /api/turnos/cambios o recargar la vista.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteEventosTurnoDTO {
+    private List<EventoTurnoDTO> eventos;
+    private boolean recargar;
+}
@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Total de minutos trabajados por un colaborador, agregado en la base de datos
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MinutosTrabajadosDTO {
+    private Long colaboradorId;
+    private Long minutos;
+}
@@ -0,0 +1,16 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Página de turnos ordenada por (fecha, id) descendente; siguienteCursor es null en la última página
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaTurnosDTO {
+    private List<TurnoDTO> turnos;
+    private String siguienteCursor;
+}
@@ -0,0 +1,17 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantillaSemanaDTO {
+    private Long id;
+    private String nombre;
+    private LocalDate fechaCreacion;
+    private Long totalTurnos;
+}
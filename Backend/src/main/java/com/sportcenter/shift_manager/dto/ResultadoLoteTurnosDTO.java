@@ -0,0 +1,18 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Respuesta de POST /api/turnos/batch; confirmado es false si no se guardó ningún turno
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoLoteTurnosDTO {
+    private boolean confirmado;
+    private int creados;
+    private int fallidos;
+    private List<ResultadoTurnoLoteDTO> resultados;
+}
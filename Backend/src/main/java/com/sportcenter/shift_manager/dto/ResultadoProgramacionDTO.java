@@ -0,0 +1,20 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Resultado de copiar una semana o aplicar una plantilla sobre [desde, hasta]
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoProgramacionDTO {
+    private LocalDate desde;
+    private LocalDate hasta;
+    private int creados;
+    private int omitidosDeshabilitados; // Colaborador deshabilitado o sin empresa
+    private int omitidosExistentes;     // Ya había un turno idéntico en la fecha destino
+    private int omitidosSolapados;      // Se superpone con otro turno del colaborador en la fecha destino
+}
@@ -0,0 +1,20 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Resultado de un turno dentro de POST /api/turnos/batch; indice es su posición en la petición
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoTurnoLoteDTO {
+    public static final String CREADO = "CREADO";
+    public static final String ERROR = "ERROR";
+    public static final String OMITIDO = "OMITIDO"; // Válido, pero no se guardó porque otro turno del lote falló
+
+    private int indice;
+    private String estado;
+    private TurnoDTO turno;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Versión de un rango de fechas: filas de resumen_horas_dia, suma de sus contadores de cambios
+// y generación de los datos maestros, leídas en una sola consulta
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SelloRangoDTO {
+    private Long filas;
+    private Long cambios;
+    private Long generacionMaestros;
+}
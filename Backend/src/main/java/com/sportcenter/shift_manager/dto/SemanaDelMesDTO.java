@@ -0,0 +1,17 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SemanaDelMesDTO {
+    private int numeroSemana;
+    private List<String> dias;
+    private Map<Long, Double> horasPorColaborador; // colaboradorId -> horas trabajadas en la semana
+}
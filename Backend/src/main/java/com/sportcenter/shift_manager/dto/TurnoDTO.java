@@ -1,9 +1,11 @@
 package com.sportcenter.shift_manager.dto;
 
+import com.sportcenter.shift_manager.model.CalculadoraHoras;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -26,4 +28,31 @@ public class TurnoDTO {
     private boolean tomoAlmuerzo;
     private double horasTotalesSemana;
     private boolean esFeriado;
+    // Versión que el cliente debe reenviar al editar (bloqueo optimista)
+    private Long version;
+    private Instant fechaActualizacion;
+
+    // Constructor usado por las proyecciones JPQL de TurnoRepository; horasTotalesSemana y esFeriado los completa TurnoService
+    public TurnoDTO(Long id, Long colaboradorId, String nombreColaborador, String dniColaborador,
+                    String nombreEmpresa, Long empresaId, Long tiendaId, String nombreTienda,
+                    LocalDate fecha, LocalTime horaEntrada, LocalTime horaSalida, Integer minutosTrabajados,
+                    Long version, Instant fechaActualizacion) {
+        this.id = id;
+        this.colaboradorId = colaboradorId;
+        this.nombreColaborador = nombreColaborador != null ? nombreColaborador : "Sin Nombre";
+        this.dniColaborador = dniColaborador != null ? dniColaborador : "Sin DNI";
+        this.nombreEmpresa = nombreEmpresa != null ? nombreEmpresa : "Sin Empresa";
+        this.empresaId = empresaId;
+        this.tiendaId = tiendaId;
+        this.nombreTienda = nombreTienda != null ? nombreTienda : "Sin Tienda";
+        this.fecha = fecha;
+        this.horaEntrada = horaEntrada;
+        this.horaSalida = horaSalida;
+        this.horasTrabajadas = CalculadoraHoras.aHoras(minutosTrabajados != null
+                ? minutosTrabajados
+                : CalculadoraHoras.minutosTrabajados(horaEntrada, horaSalida));
+        this.tomoAlmuerzo = CalculadoraHoras.tomoAlmuerzo(horaEntrada, horaSalida);
+        this.version = version;
+        this.fechaActualizacion = fechaActualizacion;
+    }
 }
@@ -0,0 +1,19 @@
+package com.sportcenter.shift_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// id es el del turno eliminado; fecha, el día del que desaparece
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnoEliminadoDTO {
+    private Long id;
+    private Long colaboradorId;
+    private LocalDate fecha;
+    private Instant fechaEliminacion;
+}
@@ -0,0 +1,11 @@
+package com.sportcenter.shift_manager.exception;
+
+// El turno se superpone con otro del mismo colaborador; se responde con 409
+public class ConflictoTurnoException extends RuntimeException {
+    // Restricción de exclusión de PostgreSQL (V8) que respalda la validación de la aplicación
+    public static final String RESTRICCION_SOLAPAMIENTO = "ex_turno_colaborador_solapado";
+
+    public ConflictoTurnoException(String message) {
+        super(message);
+    }
+}
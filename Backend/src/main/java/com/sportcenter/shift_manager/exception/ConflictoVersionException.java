@@ -0,0 +1,15 @@
+package com.sportcenter.shift_manager.exception;
+
+// El cliente editó una versión que ya no es la actual; se responde 409 con el estado vigente
+public class ConflictoVersionException extends RuntimeException {
+    private final Object actual;
+
+    public ConflictoVersionException(String message, Object actual) {
+        super(message);
+        this.actual = actual;
+    }
+
+    public Object getActual() {
+        return actual;
+    }
+}
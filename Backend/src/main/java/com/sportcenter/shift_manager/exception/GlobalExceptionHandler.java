@@ -1,9 +1,15 @@
 package com.sportcenter.shift_manager.exception;
 
+import com.sportcenter.shift_manager.dto.ConflictoVersionDTO;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.sql.SQLException;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
@@ -11,8 +17,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(ex.getMessage());
     }
 
+    @ExceptionHandler(ConflictoTurnoException.class)
+    public ResponseEntity<String> handleConflictoTurno(ConflictoTurnoException ex) {
+        return ResponseEntity.status(409).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(ConflictoVersionException.class)
+    public ResponseEntity<ConflictoVersionDTO> handleConflictoVersion(ConflictoVersionException ex) {
+        return ResponseEntity.status(409).body(new ConflictoVersionDTO(ex.getMessage(), ex.getActual()));
+    }
+
+    // Otra transacción confirmó el mismo registro entre la lectura y el UPDATE (chequeo de @Version de Hibernate)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(409).body("El registro fue modificado por otro usuario al mismo tiempo. Recargue los datos e intente de nuevo.");
+    }
+
+    // Solo la exclusión de turnos superpuestos, cuando dos peticiones concurrentes pasan la validación a la vez.
+    // Cualquier otra violación de integridad se relanza y sigue el tratamiento por defecto.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrity(DataIntegrityViolationException ex) {
+        if (!violaRestriccion(ex, ConflictoTurnoException.RESTRICCION_SOLAPAMIENTO)) {
+            throw ex;
+        }
+        return ResponseEntity.status(409).body("El colaborador ya tiene otro turno que se superpone con ese horario");
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleBadRequest(IllegalArgumentException ex) {
         return ResponseEntity.status(400).body(ex.getMessage());
     }
-}
\ No newline at end of file
+
+    // Hibernate no siempre extrae el nombre de las restricciones de exclusión: se busca también en el mensaje SQL
+    private static boolean violaRestriccion(Throwable ex, String restriccion) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion && restriccion.equalsIgnoreCase(violacion.getConstraintName())) {
+                return true;
+            }
+            if (causa instanceof SQLException && causa.getMessage() != null && causa.getMessage().contains(restriccion)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.sportcenter.shift_manager.exception;
+
+// Solo se lanza con sql.presupuesto.estricto=true (tests): un endpoint ejecutó más sentencias de las permitidas
+public class PresupuestoSqlExcedidoException extends RuntimeException {
+    public PresupuestoSqlExcedidoException(String message) {
+        super(message);
+    }
+}
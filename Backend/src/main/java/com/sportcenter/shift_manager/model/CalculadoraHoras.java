@@ -0,0 +1,36 @@
+package com.sportcenter.shift_manager.model;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+// Regla única para el tiempo trabajado de un turno: se descuentan 45 minutos de almuerzo
+// cuando el turno empieza antes de las 12:01 y termina después de las 14:00.
+public final class CalculadoraHoras {
+    public static final LocalTime LIMITE_ENTRADA_ALMUERZO = LocalTime.of(12, 1);
+    public static final LocalTime LIMITE_SALIDA_ALMUERZO = LocalTime.of(14, 0);
+    public static final int MINUTOS_ALMUERZO = 45;
+
+    private CalculadoraHoras() {
+    }
+
+    public static boolean tomoAlmuerzo(LocalTime horaEntrada, LocalTime horaSalida) {
+        return horaEntrada != null && horaSalida != null &&
+                horaEntrada.isBefore(LIMITE_ENTRADA_ALMUERZO) &&
+                horaSalida.isAfter(LIMITE_SALIDA_ALMUERZO);
+    }
+
+    public static int minutosTrabajados(LocalTime horaEntrada, LocalTime horaSalida) {
+        if (horaEntrada == null || horaSalida == null) {
+            return 0;
+        }
+        long minutos = Duration.between(horaEntrada, horaSalida).toMinutes();
+        if (tomoAlmuerzo(horaEntrada, horaSalida)) {
+            minutos -= MINUTOS_ALMUERZO;
+        }
+        return (int) minutos;
+    }
+
+    public static double aHoras(long minutos) {
+        return minutos / 60.0;
+    }
+}
@@ -1,10 +1,15 @@
 package com.sportcenter.shift_manager.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
@@ -13,7 +18,8 @@ import java.time.LocalDate;
         indexes = {
                 @Index(name = "idx_email", columnList = "email"),
                 @Index(name = "idx_dni", columnList = "dni"),
-                @Index(name = "idx_empresa_id", columnList = "empresa_id")
+                @Index(name = "idx_empresa_id", columnList = "empresa_id"),
+                @Index(name = "idx_colaborador_fecha_actualizacion", columnList = "fecha_actualizacion")
         }
 )
 @Data
@@ -21,6 +27,10 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Colaborador {
+    public static final String FOTO_PENDIENTE = "PENDIENTE";
+    public static final String FOTO_LISTA = "LISTA";
+    public static final String FOTO_ERROR = "ERROR";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,6 +55,15 @@ public class Colaborador {
     //@Column(length = 255)
     private String fotoUrl;  // Nuevo campo
 
+    // Estado de la última foto enviada (null si nunca se envió): mientras está PENDIENTE, fotoUrl es la anterior
+    @Column(length = 10)
+    private String fotoEstado;
+
+    // Solicitud de subida en curso; solo esa puede cerrar el estado
+    @JsonIgnore
+    @Column(length = 36)
+    private String fotoSolicitud;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "empresa_id", nullable = true)
     @JsonIgnoreProperties("colaboradores")
@@ -60,4 +79,18 @@ public class Colaborador {
     @JoinColumn(name = "puesto_id")
     @JsonIgnoreProperties("colaboradores") // Si Puesto tiene relación inversa
     private Puesto puesto;
+
+    // Bloqueo optimista: un UPDATE con versión vieja falla en lugar de pisar el cambio de otro usuario
+    @Version
+    private Long version;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant fechaCreacion;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant fechaActualizacion;
 }
@@ -0,0 +1,22 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Fila única con la generación de los datos maestros; la crea V15 y solo se incrementa
+@Entity
+@Table(name = "generacion_maestros")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeneracionMaestros {
+    public static final int FILA = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long generacion;
+}
@@ -0,0 +1,29 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Plantilla de programación semanal; sus turnos están en PlantillaTurno
+@Entity
+@Table(
+        name = "plantilla_semana",
+        uniqueConstraints = @UniqueConstraint(name = "uk_plantilla_semana_nombre", columnNames = "nombre")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantillaSemana {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String nombre;
+
+    @Column(nullable = false)
+    private LocalDate fechaCreacion;
+}
@@ -0,0 +1,44 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+// Turno de una plantilla semanal: día de la semana ISO (1 = lunes ... 7 = domingo) en lugar de fecha
+@Entity
+@Table(
+        name = "plantilla_turno",
+        indexes = @Index(name = "idx_plantilla_turno_plantilla", columnList = "plantilla_id")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlantillaTurno {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "plantilla_id", nullable = false)
+    private PlantillaSemana plantilla;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "colaborador_id", nullable = false)
+    private Colaborador colaborador;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tienda_id", nullable = false)
+    private Tienda tienda;
+
+    @Column(nullable = false)
+    private int diaSemana;
+
+    @Column(nullable = false)
+    private LocalTime horaEntrada;
+
+    @Column(nullable = false)
+    private LocalTime horaSalida;
+}
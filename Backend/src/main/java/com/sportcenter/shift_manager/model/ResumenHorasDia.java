@@ -0,0 +1,45 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Acumulado de horas por colaborador y día, mantenido en la misma transacción que los turnos
+@Entity
+@Table(
+        name = "resumen_horas_dia",
+        uniqueConstraints = @UniqueConstraint(name = "uk_resumen_dia_colaborador_fecha", columnNames = {"colaborador_id", "fecha"})
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumenHorasDia {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "colaborador_id", nullable = false)
+    private Long colaboradorId;
+
+    @Column(nullable = false)
+    private LocalDate fecha;
+
+    @Column(nullable = false)
+    private int minutosTrabajados;
+
+    @Column(nullable = false)
+    private int minutosFeriado;
+
+    @Column(nullable = false)
+    private int turnos;
+
+    @Column(nullable = false)
+    private int turnosFeriado;
+
+    // Número de escrituras que tocaron este día; solo crece (sello de versión de los ETag)
+    @Column(nullable = false)
+    private long cambios;
+}
@@ -0,0 +1,42 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Acumulado de horas por colaborador y mes; diasFeriado cuenta los días con al menos un turno en feriado
+@Entity
+@Table(
+        name = "resumen_horas_mes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_resumen_mes_colaborador", columnNames = {"colaborador_id", "anio", "mes"})
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumenHorasMes {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "colaborador_id", nullable = false)
+    private Long colaboradorId;
+
+    @Column(nullable = false)
+    private int anio;
+
+    @Column(nullable = false)
+    private int mes;
+
+    @Column(nullable = false)
+    private int minutosTrabajados;
+
+    @Column(nullable = false)
+    private int minutosFeriado;
+
+    @Column(nullable = false)
+    private int diasFeriado;
+
+    @Column(nullable = false)
+    private int turnos;
+}
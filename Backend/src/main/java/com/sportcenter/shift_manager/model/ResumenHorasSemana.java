@@ -0,0 +1,39 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Acumulado de horas por colaborador y semana ISO (año ISO + número de semana)
+@Entity
+@Table(
+        name = "resumen_horas_semana",
+        uniqueConstraints = @UniqueConstraint(name = "uk_resumen_semana_colaborador", columnNames = {"colaborador_id", "anio_iso", "semana_iso"})
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumenHorasSemana {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "colaborador_id", nullable = false)
+    private Long colaboradorId;
+
+    @Column(nullable = false)
+    private int anioIso;
+
+    @Column(nullable = false)
+    private int semanaIso;
+
+    @Column(nullable = false)
+    private int minutosTrabajados;
+
+    @Column(nullable = false)
+    private int minutosFeriado;
+
+    @Column(nullable = false)
+    private int turnos;
+}
@@ -1,18 +1,49 @@
 package com.sportcenter.shift_manager.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
+@Table(
+        name = "turno",
+        indexes = {
+                @Index(name = "idx_turno_fecha", columnList = "fecha"),
+                @Index(name = "idx_turno_colaborador_fecha", columnList = "colaborador_id, fecha"),
+                @Index(name = "idx_turno_tienda_fecha", columnList = "tienda_id, fecha"),
+                @Index(name = "idx_turno_fecha_actualizacion", columnList = "fecha_actualizacion")
+        }
+)
+// Colaborador (con su empresa y puesto), empresa y tienda en un solo SELECT; lo usan los finders de TurnoRepository
+@NamedEntityGraph(
+        name = Turno.GRAFO_ASOCIACIONES,
+        attributeNodes = {
+                @NamedAttributeNode(value = "colaborador", subgraph = "colaborador"),
+                @NamedAttributeNode("empresa"),
+                @NamedAttributeNode("tienda")
+        },
+        subgraphs = @NamedSubgraph(name = "colaborador", attributeNodes = {
+                @NamedAttributeNode("empresa"),
+                @NamedAttributeNode("puesto")
+        })
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Turno {
+    public static final String GRAFO_ASOCIACIONES = "Turno.asociaciones";
+
+    // Secuencia con allocationSize 50 en lugar de IDENTITY para que los INSERT se puedan enviar en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "turno_seq")
+    @SequenceGenerator(name = "turno_seq", sequenceName = "turno_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,19 +64,36 @@ public class Turno {
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Tienda tienda;
 
-    @Transient
-    private double horasTrabajadas;
+    // Minutos trabajados (con el descuento de almuerzo), calculados al guardar para poder sumarlos en SQL
+    @Column(name = "minutos_trabajados")
+    private Integer minutosTrabajados;
+
+    private boolean esFeriado;
+
+    // Bloqueo optimista: un UPDATE con versión vieja falla en lugar de pisar el cambio de otro usuario
+    @Version
+    private Long version;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant fechaCreacion;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant fechaActualizacion;
+
+    @PrePersist
+    @PreUpdate
+    public void calcularMinutosTrabajados() {
+        minutosTrabajados = CalculadoraHoras.minutosTrabajados(horaEntrada, horaSalida);
+    }
 
     public double getHorasTrabajadas() {
-        if (horaEntrada != null && horaSalida != null) {
-            long minutosTrabajados = java.time.Duration.between(horaEntrada, horaSalida).toMinutes();
-            if (horaEntrada.isBefore(LocalTime.of(12, 1)) && horaSalida.isAfter(LocalTime.of(14, 0))) {
-                minutosTrabajados -= 45;
-            }
-            return minutosTrabajados / 60.0;
+        if (minutosTrabajados != null) {
+            return CalculadoraHoras.aHoras(minutosTrabajados);
         }
-        return 0;
+        return CalculadoraHoras.aHoras(CalculadoraHoras.minutosTrabajados(horaEntrada, horaSalida));
     }
-
-    private boolean esFeriado;
 }
@@ -0,0 +1,39 @@
+package com.sportcenter.shift_manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Lápida de un turno eliminado (o movido de fecha); fecha es el día en que estaba el turno
+@Entity
+@Table(
+        name = "turno_eliminado",
+        indexes = @Index(name = "idx_turno_eliminado_fecha_eliminacion", columnList = "fecha_eliminacion")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnoEliminado {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "turno_id", nullable = false)
+    private Long turnoId;
+
+    @Column(name = "colaborador_id", nullable = false)
+    private Long colaboradorId;
+
+    @Column(nullable = false)
+    private LocalDate fecha;
+
+    // Mismo reloj que fechaActualizacion de Turno, para comparar ambos contra el token del cliente
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant fechaEliminacion;
+}
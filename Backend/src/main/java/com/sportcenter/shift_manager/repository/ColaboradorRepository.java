@@ -1,9 +1,16 @@
 package com.sportcenter.shift_manager.repository;
 
+import com.sportcenter.shift_manager.dto.ColaboradorNombreDTO;
 import com.sportcenter.shift_manager.model.Colaborador;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +22,27 @@ public interface ColaboradorRepository extends JpaRepository<Colaborador, Long>
     Optional<Colaborador> findByEmail(String email);
     Optional<Colaborador> findByDni(String dni);
     Optional<Colaborador> findByNombreAndApellido(String nombre, String apellido);
+
+    // Colaboradores de un lote de turnos con empresa y puesto en la misma consulta
+    @EntityGraph(attributePaths = {"empresa", "puesto"})
+    List<Colaborador> findByIdIn(Collection<Long> ids);
+
+    // Solo id y nombre, sin cargar empresa ni puesto (EAGER en la entidad)
+    @Query("SELECT new com.sportcenter.shift_manager.dto.ColaboradorNombreDTO(c.id, c.nombre) FROM Colaborador c WHERE c.id IN :ids")
+    List<ColaboradorNombreDTO> findNombresByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.ColaboradorNombreDTO(c.id, c.nombre) FROM Colaborador c ORDER BY c.id")
+    List<ColaboradorNombreDTO> findAllNombres();
+
+    // Cierre de una subida de foto en segundo plano. Solo aplica si sigue siendo la solicitud en curso,
+    // y no pasa por @Version: no debe invalidar la versión que el usuario tiene en pantalla.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Colaborador c SET c.fotoUrl = :fotoUrl, c.fotoEstado = :estado, c.fotoSolicitud = null WHERE c.id = :id AND c.fotoSolicitud = :solicitud")
+    int completarFoto(@Param("id") Long id, @Param("solicitud") String solicitud, @Param("fotoUrl") String fotoUrl, @Param("estado") String estado);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Colaborador c SET c.fotoEstado = :estado, c.fotoSolicitud = null WHERE c.id = :id AND c.fotoSolicitud = :solicitud")
+    int marcarFoto(@Param("id") Long id, @Param("solicitud") String solicitud, @Param("estado") String estado);
 }
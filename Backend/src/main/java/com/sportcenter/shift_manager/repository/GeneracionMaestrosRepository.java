@@ -0,0 +1,18 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.model.GeneracionMaestros;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface GeneracionMaestrosRepository extends JpaRepository<GeneracionMaestros, Integer> {
+
+    // Se une a la transacción del cambio de datos maestros: la generación nueva se confirma o se descarta con él
+    @Transactional
+    @Modifying
+    @Query("UPDATE GeneracionMaestros g SET g.generacion = g.generacion + 1 WHERE g.id = " + GeneracionMaestros.FILA)
+    int incrementar();
+}
@@ -0,0 +1,19 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.dto.PlantillaSemanaDTO;
+import com.sportcenter.shift_manager.model.PlantillaSemana;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlantillaSemanaRepository extends JpaRepository<PlantillaSemana, Long> {
+    boolean existsByNombre(String nombre);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.PlantillaSemanaDTO(p.id, p.nombre, p.fechaCreacion, COUNT(t.id)) " +
+            "FROM PlantillaSemana p LEFT JOIN PlantillaTurno t ON t.plantilla = p " +
+            "GROUP BY p.id, p.nombre, p.fechaCreacion ORDER BY p.nombre")
+    List<PlantillaSemanaDTO> findAllConTotalTurnos();
+}
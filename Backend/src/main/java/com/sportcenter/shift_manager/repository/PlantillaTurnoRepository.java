@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.model.PlantillaTurno;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlantillaTurnoRepository extends JpaRepository<PlantillaTurno, Long> {
+    @EntityGraph(attributePaths = {"colaborador", "colaborador.empresa", "tienda"})
+    List<PlantillaTurno> findByPlantilla_Id(Long plantillaId);
+}
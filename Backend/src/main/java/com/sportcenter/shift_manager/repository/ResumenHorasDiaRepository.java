@@ -0,0 +1,60 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.SelloRangoDTO;
+import com.sportcenter.shift_manager.model.GeneracionMaestros;
+import com.sportcenter.shift_manager.model.ResumenHorasDia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ResumenHorasDiaRepository extends JpaRepository<ResumenHorasDia, Long> {
+
+    @Modifying
+    @Query("UPDATE ResumenHorasDia r SET r.minutosTrabajados = r.minutosTrabajados + :minutos, " +
+            "r.minutosFeriado = r.minutosFeriado + :minutosFeriado, r.turnos = r.turnos + :turnos, " +
+            "r.turnosFeriado = r.turnosFeriado + :turnosFeriado, r.cambios = r.cambios + 1 " +
+            "WHERE r.colaboradorId = :colaboradorId AND r.fecha = :fecha")
+    int acumular(@Param("colaboradorId") Long colaboradorId,
+                 @Param("fecha") LocalDate fecha,
+                 @Param("minutos") int minutos,
+                 @Param("minutosFeriado") int minutosFeriado,
+                 @Param("turnos") int turnos,
+                 @Param("turnosFeriado") int turnosFeriado);
+
+    // Crea la fila en cero si falta; si otra transacción la está creando, espera y no hace nada (sin violar uk_)
+    @Modifying
+    @Query(value = "INSERT INTO resumen_horas_dia (colaborador_id, fecha, minutos_trabajados, minutos_feriado, turnos, turnos_feriado, cambios) " +
+            "VALUES (:colaboradorId, :fecha, 0, 0, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int crearSiFalta(@Param("colaboradorId") Long colaboradorId, @Param("fecha") LocalDate fecha);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.SelloRangoDTO(COUNT(r), COALESCE(SUM(r.cambios), 0L), " +
+            "(SELECT g.generacion FROM GeneracionMaestros g WHERE g.id = " + GeneracionMaestros.FILA + ")) " +
+            "FROM ResumenHorasDia r WHERE r.fecha BETWEEN :inicio AND :fin")
+    SelloRangoDTO sellarRango(@Param("inicio") LocalDate inicio, @Param("fin") LocalDate fin);
+
+    @Query("SELECT r.turnosFeriado FROM ResumenHorasDia r WHERE r.colaboradorId = :colaboradorId AND r.fecha = :fecha")
+    Integer findTurnosFeriado(@Param("colaboradorId") Long colaboradorId, @Param("fecha") LocalDate fecha);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO(r.colaboradorId, SUM(r.minutosTrabajados)) " +
+            "FROM ResumenHorasDia r WHERE r.fecha BETWEEN :inicio AND :fin GROUP BY r.colaboradorId")
+    List<MinutosTrabajadosDTO> sumMinutosPorColaborador(@Param("inicio") LocalDate inicio, @Param("fin") LocalDate fin);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO(r.colaboradorId, SUM(r.minutosTrabajados)) " +
+            "FROM ResumenHorasDia r WHERE r.colaboradorId IN :colaboradores AND r.fecha BETWEEN :inicio AND :fin GROUP BY r.colaboradorId")
+    List<MinutosTrabajadosDTO> sumMinutosPorColaboradores(@Param("colaboradores") List<Long> colaboradores,
+                                                          @Param("inicio") LocalDate inicio,
+                                                          @Param("fin") LocalDate fin);
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO(r.colaboradorId, SUM(r.minutosFeriado)) " +
+            "FROM ResumenHorasDia r WHERE r.colaboradorId IN :colaboradores AND r.fecha BETWEEN :inicio AND :fin GROUP BY r.colaboradorId")
+    List<MinutosTrabajadosDTO> sumMinutosFeriadosPorColaboradores(@Param("colaboradores") List<Long> colaboradores,
+                                                                  @Param("inicio") LocalDate inicio,
+                                                                  @Param("fin") LocalDate fin);
+}
@@ -0,0 +1,34 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.model.ResumenHorasMes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumenHorasMesRepository extends JpaRepository<ResumenHorasMes, Long> {
+
+    @Modifying
+    @Query("UPDATE ResumenHorasMes r SET r.minutosTrabajados = r.minutosTrabajados + :minutos, " +
+            "r.minutosFeriado = r.minutosFeriado + :minutosFeriado, r.diasFeriado = r.diasFeriado + :diasFeriado, " +
+            "r.turnos = r.turnos + :turnos " +
+            "WHERE r.colaboradorId = :colaboradorId AND r.anio = :anio AND r.mes = :mes")
+    int acumular(@Param("colaboradorId") Long colaboradorId,
+                 @Param("anio") int anio,
+                 @Param("mes") int mes,
+                 @Param("minutos") int minutos,
+                 @Param("minutosFeriado") int minutosFeriado,
+                 @Param("diasFeriado") int diasFeriado,
+                 @Param("turnos") int turnos);
+
+    @Modifying
+    @Query(value = "INSERT INTO resumen_horas_mes (colaborador_id, anio, mes, minutos_trabajados, minutos_feriado, dias_feriado, turnos) " +
+            "VALUES (:colaboradorId, :anio, :mes, 0, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int crearSiFalta(@Param("colaboradorId") Long colaboradorId, @Param("anio") int anio, @Param("mes") int mes);
+
+    List<ResumenHorasMes> findByColaboradorIdInAndAnioAndMes(List<Long> colaboradores, int anio, int mes);
+}
@@ -0,0 +1,32 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.model.ResumenHorasSemana;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumenHorasSemanaRepository extends JpaRepository<ResumenHorasSemana, Long> {
+
+    @Modifying
+    @Query("UPDATE ResumenHorasSemana r SET r.minutosTrabajados = r.minutosTrabajados + :minutos, " +
+            "r.minutosFeriado = r.minutosFeriado + :minutosFeriado, r.turnos = r.turnos + :turnos " +
+            "WHERE r.colaboradorId = :colaboradorId AND r.anioIso = :anioIso AND r.semanaIso = :semanaIso")
+    int acumular(@Param("colaboradorId") Long colaboradorId,
+                 @Param("anioIso") int anioIso,
+                 @Param("semanaIso") int semanaIso,
+                 @Param("minutos") int minutos,
+                 @Param("minutosFeriado") int minutosFeriado,
+                 @Param("turnos") int turnos);
+
+    @Modifying
+    @Query(value = "INSERT INTO resumen_horas_semana (colaborador_id, anio_iso, semana_iso, minutos_trabajados, minutos_feriado, turnos) " +
+            "VALUES (:colaboradorId, :anioIso, :semanaIso, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int crearSiFalta(@Param("colaboradorId") Long colaboradorId, @Param("anioIso") int anioIso, @Param("semanaIso") int semanaIso);
+
+    List<ResumenHorasSemana> findByAnioIsoAndSemanaIso(int anioIso, int semanaIso);
+}
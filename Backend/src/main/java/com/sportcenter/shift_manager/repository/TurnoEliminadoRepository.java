@@ -0,0 +1,27 @@
+package com.sportcenter.shift_manager.repository;
+
+import com.sportcenter.shift_manager.dto.TurnoEliminadoDTO;
+import com.sportcenter.shift_manager.model.TurnoEliminado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TurnoEliminadoRepository extends JpaRepository<TurnoEliminado, Long> {
+
+    @Query("SELECT new com.sportcenter.shift_manager.dto.TurnoEliminadoDTO(e.turnoId, e.colaboradorId, e.fecha, e.fechaEliminacion) " +
+            "FROM TurnoEliminado e WHERE e.fechaEliminacion > :desde AND e.fecha BETWEEN :inicio AND :fin ORDER BY e.fechaEliminacion, e.id")
+    List<TurnoEliminadoDTO> findDTOEliminadosDesde(@Param("desde") Instant desde,
+                                                   @Param("inicio") LocalDate inicio,
+                                                   @Param("fin") LocalDate fin);
+
+    @Modifying
+    @Query("DELETE FROM TurnoEliminado e WHERE e.fechaEliminacion < :limite")
+    int purgarAnterioresA(@Param("limite") Instant limite);
+}
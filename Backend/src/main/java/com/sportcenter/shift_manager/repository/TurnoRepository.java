@@ -1,23 +1,111 @@
 package com.sportcenter.shift_manager.repository;
 
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
 import com.sportcenter.shift_manager.model.Turno;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TurnoRepository extends JpaRepository<Turno, Long> {
-    List<Turno> findByColaborador_Id(Long colaboradorId);
+    // Las lecturas de entidades (copiar semana, guardar plantilla) traen colaborador, empresa y tienda en el mismo
+    // SELECT; los listados y reportes usan las proyecciones de abajo.
+    @EntityGraph(Turno.GRAFO_ASOCIACIONES)
     List<Turno> findByFechaBetween(LocalDate startDate, LocalDate endDate);
 
-    // Buscar turnos de un colaborador por rango de fechas
-    List<Turno> findByColaborador_IdAndFechaBetween(Long colaboradorId, LocalDate startDate, LocalDate endDate);
-    // Método para buscar turnos por tienda y rango de fechas, ordenados por fecha
+    @EntityGraph(Turno.GRAFO_ASOCIACIONES)
     List<Turno> findByTienda_IdAndFechaBetweenOrderByFechaAsc(
             Long tiendaId,
             LocalDate fechaInicio,
             LocalDate fechaFin);
-    List<Turno> findByColaborador_IdInAndFechaBetween(List<Long> colaboradores, LocalDate inicio, LocalDate fin);
+
+    // ---- Proyecciones de solo lectura: construyen TurnoDTO sin cargar entidades gestionadas ----
+    String PROYECCION_TURNO_DTO = "SELECT new com.sportcenter.shift_manager.dto.TurnoDTO(" +
+            "t.id, c.id, c.nombre, c.dni, e.nombre, e.id, ti.id, ti.nombre, t.fecha, t.horaEntrada, t.horaSalida, t.minutosTrabajados, t.version, t.fechaActualizacion) " +
+            "FROM Turno t JOIN t.colaborador c LEFT JOIN t.empresa e LEFT JOIN t.tienda ti ";
+
+    // Historial paginado por clave (fecha, id) descendente: la primera página y las siguientes a partir del cursor.
+    // Con idx_turno_colaborador_fecha el costo no depende de cuántas páginas se hayan recorrido.
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id = :colaboradorId ORDER BY t.fecha DESC, t.id DESC")
+    List<TurnoDTO> findDTOPaginaByColaboradorId(@Param("colaboradorId") Long colaboradorId, Pageable pageable);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id = :colaboradorId AND (t.fecha < :fecha OR (t.fecha = :fecha AND t.id < :id)) " +
+            "ORDER BY t.fecha DESC, t.id DESC")
+    List<TurnoDTO> findDTOPaginaByColaboradorIdDespuesDe(@Param("colaboradorId") Long colaboradorId,
+                                                         @Param("fecha") LocalDate fecha,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha, t.horaEntrada")
+    List<TurnoDTO> findDTOByFechaBetween(@Param("inicio") LocalDate inicio, @Param("fin") LocalDate fin);
+
+    // Feed de cambios: turnos del rango creados o editados después de "desde" (idx_turno_fecha_actualizacion)
+    @Query(PROYECCION_TURNO_DTO + "WHERE t.fechaActualizacion > :desde AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fechaActualizacion, t.id")
+    List<TurnoDTO> findDTOCambiadosDesde(@Param("desde") Instant desde,
+                                         @Param("inicio") LocalDate inicio,
+                                         @Param("fin") LocalDate fin,
+                                         Pageable pageable);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id = :colaboradorId AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha, t.horaEntrada")
+    List<TurnoDTO> findDTOByColaboradorIdAndFechaBetween(@Param("colaboradorId") Long colaboradorId,
+                                                         @Param("inicio") LocalDate inicio,
+                                                         @Param("fin") LocalDate fin);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE ti.id = :tiendaId AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha ASC")
+    List<TurnoDTO> findDTOByTiendaIdAndFechaBetween(@Param("tiendaId") Long tiendaId,
+                                                    @Param("inicio") LocalDate inicio,
+                                                    @Param("fin") LocalDate fin);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id IN :colaboradores AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha, t.horaEntrada")
+    List<TurnoDTO> findDTOByColaboradorIdInAndFechaBetween(@Param("colaboradores") List<Long> colaboradores,
+                                                           @Param("inicio") LocalDate inicio,
+                                                           @Param("fin") LocalDate fin);
+
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id IN :colaboradores AND t.fecha BETWEEN :inicio AND :fin AND t.esFeriado = true ORDER BY t.fecha, t.horaEntrada")
+    List<TurnoDTO> findDTOFeriadosByColaboradorIdInAndFechaBetween(@Param("colaboradores") List<Long> colaboradores,
+                                                                   @Param("inicio") LocalDate inicio,
+                                                                   @Param("fin") LocalDate fin);
+
+    // ---- Lecturas en streaming para las exportaciones: cursor de solo avance que trae las filas de a FETCH_EXPORTACION ----
+    // Deben consumirse dentro de una transacción (en PostgreSQL el fetch size solo aplica sin autocommit).
+    String FETCH_EXPORTACION = "500";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_EXPORTACION))
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id IN :colaboradores AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha, t.horaEntrada")
+    Stream<TurnoDTO> streamDTOByColaboradorIdInAndFechaBetween(@Param("colaboradores") List<Long> colaboradores,
+                                                               @Param("inicio") LocalDate inicio,
+                                                               @Param("fin") LocalDate fin);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_EXPORTACION))
+    @Query(PROYECCION_TURNO_DTO + "WHERE c.id IN :colaboradores AND t.fecha BETWEEN :inicio AND :fin AND t.esFeriado = true ORDER BY t.fecha, t.horaEntrada")
+    Stream<TurnoDTO> streamDTOFeriadosByColaboradorIdInAndFechaBetween(@Param("colaboradores") List<Long> colaboradores,
+                                                                       @Param("inicio") LocalDate inicio,
+                                                                       @Param("fin") LocalDate fin);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_EXPORTACION))
+    @Query(PROYECCION_TURNO_DTO + "WHERE ti.id = :tiendaId AND t.fecha BETWEEN :inicio AND :fin ORDER BY t.fecha ASC")
+    Stream<TurnoDTO> streamDTOByTiendaIdAndFechaBetween(@Param("tiendaId") Long tiendaId,
+                                                        @Param("inicio") LocalDate inicio,
+                                                        @Param("fin") LocalDate fin);
+
+    // ---- Agregado de minutos por colaborador en una tienda; los demás totales salen de ResumenHorasDia ----
+    String SUMA_MINUTOS_POR_COLABORADOR = "SELECT new com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO(t.colaborador.id, " +
+            "SUM(t.minutosTrabajados)) FROM Turno t ";
+
+    @Query(SUMA_MINUTOS_POR_COLABORADOR + "WHERE t.tienda.id = :tiendaId AND t.fecha BETWEEN :inicio AND :fin GROUP BY t.colaborador.id")
+    List<MinutosTrabajadosDTO> sumMinutosPorColaboradorEnTienda(@Param("tiendaId") Long tiendaId,
+                                                                @Param("inicio") LocalDate inicio,
+                                                                @Param("fin") LocalDate fin);
 }
@@ -0,0 +1,92 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Intervalos ocupados por colaborador y día, ordenados por hora de entrada.
+// Los intervalos guardados nunca se superponen, así que un conflicto solo puede estar en el anterior
+// o en el siguiente a la hora de entrada consultada: O(log n) por turno.
+// Los intervalos son semiabiertos [entrada, salida): un turno que termina a las 12:00 no choca con otro que empieza a las 12:00.
+public final class AgendaTurnos {
+    private final Map<ClaveDia, TreeMap<LocalTime, Intervalo>> intervalos = new HashMap<>();
+
+    // turnoId es null para turnos que todavía no se guardaron (por ejemplo, dentro de un lote)
+    public record Intervalo(Long turnoId, LocalTime horaEntrada, LocalTime horaSalida) {
+    }
+
+    private record ClaveDia(Long colaboradorId, LocalDate fecha) {
+    }
+
+    // Agenda con los turnos ya guardados. Si los datos existentes se superponen entre sí, se fusionan
+    // en un solo intervalo para mantener el invariante (el conflicto se informa con el primero).
+    public static AgendaTurnos desde(Collection<TurnoDTO> turnos) {
+        AgendaTurnos agenda = new AgendaTurnos();
+        for (TurnoDTO turno : turnos) {
+            agenda.cargar(turno.getId(), turno.getColaboradorId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida());
+        }
+        return agenda;
+    }
+
+    // Intervalo existente que se superpone con [horaEntrada, horaSalida), o null si el hueco está libre
+    public Intervalo conflicto(Long colaboradorId, LocalDate fecha, LocalTime horaEntrada, LocalTime horaSalida) {
+        TreeMap<LocalTime, Intervalo> dia = intervalos.get(new ClaveDia(colaboradorId, fecha));
+        if (dia == null) {
+            return null;
+        }
+        Map.Entry<LocalTime, Intervalo> anterior = dia.floorEntry(horaEntrada);
+        if (anterior != null && anterior.getValue().horaSalida().isAfter(horaEntrada)) {
+            return anterior.getValue();
+        }
+        Map.Entry<LocalTime, Intervalo> siguiente = dia.higherEntry(horaEntrada);
+        if (siguiente != null && siguiente.getKey().isBefore(horaSalida)) {
+            return siguiente.getValue();
+        }
+        return null;
+    }
+
+    // Ocupa el intervalo si está libre; si no, lo deja como estaba y devuelve el intervalo con el que choca
+    public Intervalo reservar(Long turnoId, Long colaboradorId, LocalDate fecha, LocalTime horaEntrada, LocalTime horaSalida) {
+        Intervalo conflicto = conflicto(colaboradorId, fecha, horaEntrada, horaSalida);
+        if (conflicto == null) {
+            intervalos.computeIfAbsent(new ClaveDia(colaboradorId, fecha), clave -> new TreeMap<>())
+                    .put(horaEntrada, new Intervalo(turnoId, horaEntrada, horaSalida));
+        }
+        return conflicto;
+    }
+
+    // Agrega el intervalo fusionándolo con los que se superpongan
+    public void cargar(Long turnoId, Long colaboradorId, LocalDate fecha, LocalTime horaEntrada, LocalTime horaSalida) {
+        if (colaboradorId == null || fecha == null || horaEntrada == null || horaSalida == null) {
+            return;
+        }
+        TreeMap<LocalTime, Intervalo> dia = intervalos.computeIfAbsent(new ClaveDia(colaboradorId, fecha), clave -> new TreeMap<>());
+        Long id = turnoId;
+        LocalTime inicio = horaEntrada;
+        LocalTime fin = horaSalida;
+
+        Map.Entry<LocalTime, Intervalo> anterior = dia.floorEntry(inicio);
+        if (anterior != null && anterior.getValue().horaSalida().isAfter(inicio)) {
+            id = anterior.getValue().turnoId();
+            inicio = anterior.getKey();
+            fin = mayor(fin, anterior.getValue().horaSalida());
+            dia.remove(anterior.getKey());
+        }
+        Map.Entry<LocalTime, Intervalo> siguiente = dia.ceilingEntry(inicio);
+        while (siguiente != null && siguiente.getKey().isBefore(fin)) {
+            fin = mayor(fin, siguiente.getValue().horaSalida());
+            dia.remove(siguiente.getKey());
+            siguiente = dia.ceilingEntry(inicio);
+        }
+        dia.put(inicio, new Intervalo(id, inicio, fin));
+    }
+
+    private static LocalTime mayor(LocalTime a, LocalTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,43 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.Feriado;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Instantánea inmutable de los feriados: un BitSet por año indexado por día del año.
+// Se reemplaza completa al recargar, así las lecturas concurrentes nunca ven un estado a medias.
+public final class CalendarioFeriados {
+    private final Map<Integer, BitSet> diasPorAnio;
+
+    private CalendarioFeriados(Map<Integer, BitSet> diasPorAnio) {
+        this.diasPorAnio = diasPorAnio;
+    }
+
+    public static CalendarioFeriados vacio() {
+        return new CalendarioFeriados(Map.of());
+    }
+
+    public static CalendarioFeriados desde(List<Feriado> feriados) {
+        Map<Integer, BitSet> dias = new HashMap<>();
+        for (Feriado feriado : feriados) {
+            LocalDate fecha = feriado.getFecha();
+            if (fecha != null) {
+                dias.computeIfAbsent(fecha.getYear(), anio -> new BitSet(367)).set(fecha.getDayOfYear());
+            }
+        }
+        return new CalendarioFeriados(dias);
+    }
+
+    // Devuelve null si el año no tiene ningún feriado registrado
+    BitSet diasDelAnio(int anio) {
+        return diasPorAnio.get(anio);
+    }
+
+    public int totalFeriados() {
+        return diasPorAnio.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+}
@@ -0,0 +1,63 @@
+package com.sportcenter.shift_manager.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Cálculo puro (sin base de datos) de las semanas de un mes.
+// La primera semana va del día 1 hasta el domingo siguiente; el resto son de lunes a domingo,
+// recortadas al último día del mes.
+public final class CalendarioSemanas {
+
+    private CalendarioSemanas() {
+    }
+
+    public static int numeroDeSemanas(int mes, int anio) {
+        LocalDate inicioMes = LocalDate.of(anio, mes, 1);
+        return indiceSemana(inicioMes.withDayOfMonth(inicioMes.lengthOfMonth())) + 1;
+    }
+
+    // Índice (base 0) de la semana del mes a la que pertenece la fecha
+    public static int indiceSemana(LocalDate fecha) {
+        int desfase = fecha.withDayOfMonth(1).getDayOfWeek().getValue() - 1; // Lunes = 0
+        return (fecha.getDayOfMonth() - 1 + desfase) / 7;
+    }
+
+    public static LocalDate inicioSemana(int mes, int anio, int numeroSemana) {
+        validarNumeroSemana(mes, anio, numeroSemana);
+        LocalDate inicioMes = LocalDate.of(anio, mes, 1);
+        if (numeroSemana == 1) {
+            return inicioMes;
+        }
+        int desfase = inicioMes.getDayOfWeek().getValue() - 1;
+        return inicioMes.plusDays(7L * (numeroSemana - 1) - desfase);
+    }
+
+    public static LocalDate finSemana(int mes, int anio, int numeroSemana) {
+        LocalDate inicio = inicioSemana(mes, anio, numeroSemana);
+        LocalDate finMes = inicio.withDayOfMonth(inicio.lengthOfMonth());
+        LocalDate domingo = inicio.plusDays(7L - inicio.getDayOfWeek().getValue());
+        return domingo.isAfter(finMes) ? finMes : domingo;
+    }
+
+    public static List<List<String>> semanasDelMes(int mes, int anio) {
+        int totalSemanas = numeroDeSemanas(mes, anio);
+        List<List<String>> semanas = new ArrayList<>(totalSemanas);
+        for (int numero = 1; numero <= totalSemanas; numero++) {
+            List<String> dias = new ArrayList<>(7);
+            LocalDate fin = finSemana(mes, anio, numero);
+            for (LocalDate dia = inicioSemana(mes, anio, numero); !dia.isAfter(fin); dia = dia.plusDays(1)) {
+                dias.add(dia.toString());
+            }
+            semanas.add(dias);
+        }
+        return semanas;
+    }
+
+    private static void validarNumeroSemana(int mes, int anio, int numeroSemana) {
+        int totalSemanas = numeroDeSemanas(mes, anio);
+        if (numeroSemana < 1 || numeroSemana > totalSemanas) {
+            throw new IllegalArgumentException("El número de semana " + numeroSemana + " no es válido para el mes " + mes + "/" + anio + ". Hay " + totalSemanas + " semanas.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.CambiosTurnosDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.dto.TurnoEliminadoDTO;
+import com.sportcenter.shift_manager.repository.TurnoEliminadoRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+// Feed incremental de turnos para la grilla: lo que cambió en un rango desde el token del cliente
+@Service
+public class CambiosTurnosService {
+    private static final Logger log = LoggerFactory.getLogger(CambiosTurnosService.class);
+
+    // Tope (timeout) de toda transacción que escribe turnos o lápidas: alta, lote, edición, baja y programación
+    // de semanas. Las marcas de tiempo se fijan al persistir o al hacer flush, no al confirmar, pero siempre dentro
+    // de la transacción; Spring corta con error cualquier sentencia emitida pasado el tope, así que un cambio se
+    // confirma a lo sumo SEGUNDOS_MAXIMOS_ESCRITURA después de su marca (más lo que tarde el commit).
+    public static final int SEGUNDOS_MAXIMOS_ESCRITURA = 20;
+
+    // El token retrocede ese tope más un margen para el commit y el desfase de reloj entre instancias, para no
+    // perder transacciones que confirmaron tarde. Repetir un cambio es inocuo (se reemplaza por id).
+    static final Duration MARGEN_TOKEN = Duration.ofSeconds(SEGUNDOS_MAXIMOS_ESCRITURA + 10);
+    static final Duration RETENCION_ELIMINADOS = Duration.ofDays(30);
+    static final int LIMITE_CAMBIOS = 500;
+    static final int MAXIMO_DIAS_RANGO = 62;
+
+    private final TurnoRepository turnoRepository;
+    private final TurnoEliminadoRepository turnoEliminadoRepository;
+    private final FeriadoService feriadoService;
+
+    public CambiosTurnosService(TurnoRepository turnoRepository, TurnoEliminadoRepository turnoEliminadoRepository, FeriadoService feriadoService) {
+        this.turnoRepository = turnoRepository;
+        this.turnoEliminadoRepository = turnoEliminadoRepository;
+        this.feriadoService = feriadoService;
+    }
+
+    // Sin "desde" solo se entrega el token: el cliente lo pide antes de cargar el rango completo
+    @Transactional(readOnly = true)
+    public CambiosTurnosDTO getCambios(String desde, LocalDate inicio, LocalDate fin) {
+        validarRango(inicio, fin);
+        Instant ahora = Instant.now();
+        String token = new TokenCambios(ahora.minus(MARGEN_TOKEN)).codificar();
+        if (desde == null || desde.isBlank()) {
+            return new CambiosTurnosDTO(List.of(), List.of(), token, false);
+        }
+
+        Instant instante = TokenCambios.decodificar(desde).instante();
+        // Las lápidas más viejas ya se purgaron: el delta podría estar incompleto
+        if (instante.isBefore(ahora.minus(RETENCION_ELIMINADOS))) {
+            return recargar(token);
+        }
+
+        List<TurnoDTO> cambiados = turnoRepository.findDTOCambiadosDesde(instante, inicio, fin, PageRequest.of(0, LIMITE_CAMBIOS + 1));
+        if (cambiados.size() > LIMITE_CAMBIOS) {
+            return recargar(token);
+        }
+        List<TurnoEliminadoDTO> eliminados = turnoEliminadoRepository.findDTOEliminadosDesde(instante, inicio, fin);
+        for (TurnoDTO turno : cambiados) {
+            turno.setEsFeriado(feriadoService.isFeriado(turno.getFecha()));
+        }
+        return new CambiosTurnosDTO(cambiados, eliminados, token, false);
+    }
+
+    // Todos los días de madrugada; las lápidas solo sirven mientras un token pueda ser válido
+    @Scheduled(cron = "${turnos.cambios.purga-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgarEliminados() {
+        int purgados = turnoEliminadoRepository.purgarAnterioresA(Instant.now().minus(RETENCION_ELIMINADOS));
+        if (purgados > 0) {
+            log.info("Purgadas {} lápidas de turnos eliminados", purgados);
+        }
+    }
+
+    private CambiosTurnosDTO recargar(String token) {
+        return new CambiosTurnosDTO(List.of(), List.of(), token, true);
+    }
+
+    private void validarRango(LocalDate inicio, LocalDate fin) {
+        if (fin.isBefore(inicio)) {
+            throw new IllegalArgumentException("La fecha fin no puede ser anterior a la fecha inicio");
+        }
+        if (inicio.plusDays(MAXIMO_DIAS_RANGO).isBefore(fin)) {
+            throw new IllegalArgumentException("El rango no puede superar " + MAXIMO_DIAS_RANGO + " días");
+        }
+    }
+}
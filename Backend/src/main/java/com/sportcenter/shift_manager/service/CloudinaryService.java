@@ -3,14 +3,15 @@ package com.sportcenter.shift_manager.service;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Map;
 
 @Service
-public class CloudinaryService {
+@ConditionalOnProperty(name = "imagenes.almacen", havingValue = "cloudinary", matchIfMissing = true)
+public class CloudinaryService implements ImageStore {
     private final Cloudinary cloudinary;
 
     public CloudinaryService(
@@ -24,14 +25,25 @@ public class CloudinaryService {
         ));
     }
 
-    public String uploadImage(MultipartFile file) throws IOException {
-        Map uploadResult = cloudinary.uploader().upload(file.getBytes(), ObjectUtils.emptyMap());
+    @Override
+    public String subir(byte[] contenido, String contentType) throws IOException {
+        Map uploadResult = cloudinary.uploader().upload(contenido, ObjectUtils.emptyMap());
         return uploadResult.get("secure_url").toString(); // Retorna la URL pública
     }
 
-    // Método para eliminar una imagen en Cloudinary
-    public String deleteImage(String publicId) throws IOException {
-        Map result = cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
-        return result.get("result").toString(); // Retorna "ok" si la imagen fue eliminada
+    // Elimina la imagen a partir de su URL pública
+    @Override
+    public void eliminar(String url) throws IOException {
+        Map result = cloudinary.uploader().destroy(getPublicIdFromUrl(url), ObjectUtils.emptyMap());
+        Object estado = result.get("result");
+        // "not found" también vale: la imagen ya no está
+        if (!"ok".equals(estado) && !"not found".equals(estado)) {
+            throw new IOException("Cloudinary no eliminó la imagen: " + estado);
+        }
+    }
+
+    // Extrae el public_id de la URL de Cloudinary
+    private String getPublicIdFromUrl(String imageUrl) {
+        return imageUrl.substring(imageUrl.lastIndexOf("/") + 1, imageUrl.lastIndexOf("."));
     }
 }
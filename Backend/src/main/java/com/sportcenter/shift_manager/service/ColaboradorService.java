@@ -1,6 +1,8 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.config.CacheConfig;
 import com.sportcenter.shift_manager.dto.ColaboradorDTO;
+import com.sportcenter.shift_manager.exception.ConflictoVersionException;
 import com.sportcenter.shift_manager.exception.ResourceNotFoundException;
 import com.sportcenter.shift_manager.model.Colaborador;
 import com.sportcenter.shift_manager.model.Empresa;
@@ -8,6 +10,9 @@ import com.sportcenter.shift_manager.model.Puesto;
 import com.sportcenter.shift_manager.repository.ColaboradorRepository;
 import com.sportcenter.shift_manager.repository.EmpresaRepository;
 import com.sportcenter.shift_manager.repository.PuestoRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,18 +25,21 @@ import java.util.stream.Collectors;
 public class ColaboradorService {
     private final ColaboradorRepository colaboradorRepository;
     private final EmpresaRepository empresaRepository;
-    private final CloudinaryService cloudinaryService;
+    private final FotosColaboradorService fotosColaboradorService;
     private final PuestoRepository puestoRepository; // Nuevo repositorio
+    private final VersionMaestros versionMaestros;
 
-    public ColaboradorService(ColaboradorRepository colaboradorRepository, EmpresaRepository empresaRepository, CloudinaryService cloudinaryService, PuestoRepository puestoRepository) {
+    public ColaboradorService(ColaboradorRepository colaboradorRepository, EmpresaRepository empresaRepository, FotosColaboradorService fotosColaboradorService, PuestoRepository puestoRepository, VersionMaestros versionMaestros) {
         this.colaboradorRepository = colaboradorRepository;
         this.empresaRepository = empresaRepository;
-        this.cloudinaryService = cloudinaryService;
+        this.fotosColaboradorService = fotosColaboradorService;
         this.puestoRepository = puestoRepository;
+        this.versionMaestros = versionMaestros;
     }
 
     // Guardar un nuevo colaborador
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public Colaborador saveColaborador(ColaboradorDTO colaboradorDTO, MultipartFile file) throws IOException {
         // Validar existencia de empresa
         Empresa empresa = empresaRepository.findById(colaboradorDTO.getEmpresaId())
@@ -67,14 +75,18 @@ public class ColaboradorService {
             colaborador.setPuesto(puesto);
         }
 
-        // Subir imagen a Cloudinary
-        if (file != null && !file.isEmpty()) {
+        // La foto se sube en segundo plano cuando la transacción confirma
+        boolean conFoto = file != null && !file.isEmpty();
+        if (conFoto) {
             validarImagen(file);
-            String imageUrl = cloudinaryService.uploadImage(file);
-            colaborador.setFotoUrl(imageUrl);
+            fotosColaboradorService.marcarPendiente(colaborador);
         }
 
-        return colaboradorRepository.save(colaborador);
+        Colaborador guardado = colaboradorRepository.save(colaborador);
+        if (conFoto) {
+            fotosColaboradorService.programarSubida(guardado, file);
+        }
+        return guardado;
     }
 
     // Método para validar la imagen (sin cambios)
@@ -96,6 +108,10 @@ public class ColaboradorService {
                 .collect(Collectors.toList());
     }
 
+    public Page<ColaboradorDTO> getColaboradores(Pageable pageable) {
+        return colaboradorRepository.findAll(pageable).map(this::convertToDTO);
+    }
+
     // Obtener colaboradores por empresa (sin cambios en la lógica, solo en el DTO)
     public List<ColaboradorDTO> getColaboradoresByEmpresa(Long empresaId) {
         return colaboradorRepository.findByEmpresaId(empresaId).stream()
@@ -110,11 +126,17 @@ public class ColaboradorService {
 
     // Actualizar un colaborador
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public Colaborador updateColaborador(Long id, ColaboradorDTO colaboradorDTO, MultipartFile file) throws IOException {
         // Buscar colaborador existente
         Colaborador colaborador = colaboradorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Colaborador con ID " + id + " no encontrado"));
 
+        // Bloqueo optimista: la versión enviada debe ser la actual (sin versión, el último en guardar gana)
+        if (colaboradorDTO.getVersion() != null && !colaboradorDTO.getVersion().equals(colaborador.getVersion())) {
+            throw new ConflictoVersionException("El colaborador fue modificado por otro usuario. Revise los datos actuales antes de guardar.", convertToDTO(colaborador));
+        }
+
         // Validar existencia de empresa
         Empresa nuevaEmpresa = empresaRepository.findById(colaboradorDTO.getEmpresaId())
                 .orElseThrow(() -> new RuntimeException("Empresa con ID " + colaboradorDTO.getEmpresaId() + " no encontrada"));
@@ -159,34 +181,31 @@ public class ColaboradorService {
             colaborador.setPuesto(null); // Permitir quitar el puesto si puestoId es null
         }
 
-        // Manejo de imagen (si se proporciona)
-        if (file != null && !file.isEmpty()) {
+        // Manejo de imagen (si se proporciona): la nueva se sube en segundo plano y la anterior
+        // se elimina cuando la nueva ya está guardada
+        boolean conFoto = file != null && !file.isEmpty();
+        if (conFoto) {
             validarImagen(file);
-
-            // Eliminar imagen anterior en Cloudinary (si existía)
-            if (colaborador.getFotoUrl() != null) {
-                String publicId = getPublicIdFromUrl(colaborador.getFotoUrl());
-                cloudinaryService.deleteImage(publicId);
-            }
-
-            // Subir nueva imagen a Cloudinary
-            String imageUrl = cloudinaryService.uploadImage(file);
-            colaborador.setFotoUrl(imageUrl);
+            fotosColaboradorService.marcarPendiente(colaborador);
         }
 
-        return colaboradorRepository.save(colaborador);
-    }
-
-    // Extrae el public_id de la URL de Cloudinary (sin cambios)
-    private String getPublicIdFromUrl(String imageUrl) {
-        return imageUrl.substring(imageUrl.lastIndexOf("/") + 1, imageUrl.lastIndexOf("."));
+        versionMaestros.incrementar();
+        // flush para devolver ya la nueva versión
+        Colaborador actualizado = colaboradorRepository.saveAndFlush(colaborador);
+        if (conFoto) {
+            fotosColaboradorService.programarSubida(actualizado, file);
+        }
+        return actualizado;
     }
 
     // Eliminar un colaborador (sin cambios)
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public void deleteColaborador(Long id) {
         Colaborador colaborador = colaboradorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Colaborador con ID " + id + " no encontrado"));
         colaboradorRepository.delete(colaborador);
+        versionMaestros.incrementar();
+        fotosColaboradorService.programarEliminacion(colaborador.getFotoUrl());
     }
 
     // Cambiar estado de habilitación (sin cambios)
@@ -217,10 +236,13 @@ public class ColaboradorService {
                 colaborador.getEmpresa() != null ? colaborador.getEmpresa().getId() : null,
                 colaborador.getEmpresa() != null ? colaborador.getEmpresa().getNombre() : "N/A",
                 colaborador.getFotoUrl(),
+                colaborador.getFotoEstado(),
                 colaborador.isHabilitado(),
                 colaborador.getFechaNacimiento(),
                 colaborador.getPuesto() != null ? colaborador.getPuesto().getId() : null,
-                colaborador.getPuesto() != null ? colaborador.getPuesto().getNombre() : null
+                colaborador.getPuesto() != null ? colaborador.getPuesto().getNombre() : null,
+                colaborador.getVersion(),
+                colaborador.getFechaActualizacion()
         );
     }
 }
\ No newline at end of file
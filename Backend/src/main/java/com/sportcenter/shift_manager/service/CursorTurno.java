@@ -0,0 +1,30 @@
+package com.sportcenter.shift_manager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Posición opaca dentro del historial de turnos: la clave (fecha, id) del último turno entregado,
+// codificada en base64url para que el cliente la devuelva sin interpretarla.
+record CursorTurno(LocalDate fecha, Long id) {
+
+    String codificar() {
+        String valor = fecha + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CursorTurno decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(':');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + cursor);
+            }
+            return new CursorTurno(LocalDate.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.LoteEventosTurnoDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Canal en vivo de la grilla: TurnoService publica un EventoTurnoDTO por turno guardado o eliminado y aquí,
+// ya confirmada la transacción, se reparte a las conexiones SSE interesadas (por tienda y/o semana).
+// Los envíos salen cada VENTANA_ENVIO agrupados por conexión, desde un pool propio para que un cliente lento
+// no frene al resto ni al hilo que confirma. Cada conexión ocupa a lo sumo un hilo, y una cuyo envío sigue
+// bloqueado pasado TIEMPO_MAXIMO_ENVIO se descarta: EventSource reconecta y recarga si hace falta.
+@Service
+public class DifusionTurnosService {
+    private static final Logger log = LoggerFactory.getLogger(DifusionTurnosService.class);
+
+    static final long VENTANA_ENVIO_MS = 100;
+    static final int LIMITE_PENDIENTES = 200;
+    static final Duration DURACION_CONEXION = Duration.ofMinutes(30);
+    static final Duration TIEMPO_MAXIMO_ENVIO = Duration.ofSeconds(10);
+    static final int HILOS_ENVIO = 4;
+    static final int HILOS_ENVIO_MAXIMOS = 64;
+
+    private final List<SuscriptorTurnos> suscriptores = new CopyOnWriteArrayList<>();
+    private final ExecutorService envios;
+
+    // Con hilos virtuales cada envío lleva su propio hilo. Con hilos de plataforma se mantienen HILOS_ENVIO y,
+    // sin cola, se suman hilos hasta HILOS_ENVIO_MAXIMOS: un envío bloqueado no deja esperando a los de otras
+    // conexiones. Por encima del máximo el envío se rechaza y los eventos esperan a la próxima ventana.
+    public DifusionTurnosService(@Value("${spring.threads.virtual.enabled:false}") boolean hilosVirtuales) {
+        boolean virtuales = HilosInternos.virtuales(hilosVirtuales);
+        ThreadFactory fabrica = HilosInternos.fabrica("sse-turnos-", virtuales);
+        this.envios = virtuales
+                ? Executors.newCachedThreadPool(fabrica)
+                : new ThreadPoolExecutor(HILOS_ENVIO, HILOS_ENVIO_MAXIMOS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), fabrica);
+    }
+
+    // La conexión se cierra a los DURACION_CONEXION; EventSource reconecta solo
+    public SseEmitter suscribir(Long tiendaId, LocalDate semana) {
+        return registrar(tiendaId, semana).getEmisor();
+    }
+
+    SuscriptorTurnos registrar(Long tiendaId, LocalDate semana) {
+        SseEmitter emisor = new SseEmitter(DURACION_CONEXION.toMillis());
+        SuscriptorTurnos suscriptor = new SuscriptorTurnos(emisor, tiendaId, semana, LIMITE_PENDIENTES);
+        emisor.onCompletion(() -> suscriptores.remove(suscriptor));
+        emisor.onTimeout(() -> suscriptores.remove(suscriptor));
+        emisor.onError(error -> suscriptores.remove(suscriptor));
+        suscriptores.add(suscriptor);
+        return suscriptor;
+    }
+
+    // Sin transacción activa (p. ej. un proceso interno) se reparte en el momento
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmarTurno(EventoTurnoDTO evento) {
+        for (SuscriptorTurnos suscriptor : suscriptores) {
+            if (suscriptor.interesa(evento)) {
+                suscriptor.agregar(evento);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = VENTANA_ENVIO_MS)
+    public void despachar() {
+        for (SuscriptorTurnos suscriptor : suscriptores) {
+            if (suscriptor.envioVencido(TIEMPO_MAXIMO_ENVIO)) {
+                descartar(suscriptor);
+                continue;
+            }
+            // Si el envío anterior sigue en curso, los eventos esperan agrupados a la próxima ventana
+            if (!suscriptor.enviando.compareAndSet(false, true)) {
+                continue;
+            }
+            LoteEventosTurnoDTO lote = suscriptor.tomarLote();
+            if (lote == null) {
+                suscriptor.enviando.set(false);
+                continue;
+            }
+            if (!enviar(suscriptor, SseEmitter.event().name("turnos").data(lote, MediaType.APPLICATION_JSON))) {
+                suscriptor.devolver(lote);
+            }
+        }
+    }
+
+    // Comentario periódico: mantiene viva la conexión en proxies y detecta clientes que ya se fueron
+    @Scheduled(fixedRate = 25_000)
+    public void latido() {
+        for (SuscriptorTurnos suscriptor : suscriptores) {
+            if (suscriptor.enviando.compareAndSet(false, true)) {
+                enviar(suscriptor, SseEmitter.event().comment("latido"));
+            }
+        }
+    }
+
+    public int getConexiones() {
+        return suscriptores.size();
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        envios.shutdownNow();
+        suscriptores.forEach(suscriptor -> suscriptor.getEmisor().complete());
+        suscriptores.clear();
+    }
+
+    // Llamar con enviando ya tomado; false si el pool rechazó el envío (lleno o cerrado)
+    private boolean enviar(SuscriptorTurnos suscriptor, SseEmitter.SseEventBuilder evento) {
+        suscriptor.inicioEnvio = System.nanoTime();
+        try {
+            suscriptor.envio = envios.submit(() -> {
+                try {
+                    suscriptor.getEmisor().send(evento);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Conexión SSE de turnos cerrada: {}", e.getMessage());
+                    suscriptores.remove(suscriptor);
+                    suscriptor.cerrar(e);
+                } finally {
+                    liberar(suscriptor);
+                    if (suscriptor.descartado) {
+                        suscriptor.cerrar(null);
+                    }
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            liberar(suscriptor);
+            return false;
+        }
+    }
+
+    private void liberar(SuscriptorTurnos suscriptor) {
+        suscriptor.inicioEnvio = 0;
+        suscriptor.enviando.set(false);
+    }
+
+    // El socket no acepta datos (cliente colgado, red caída): la conexión deja de recibir eventos y se
+    // interrumpe su envío. Si sigue en curso, el propio envío la cierra al terminar; SseEmitter no permite
+    // cerrarla mientras escribe.
+    private void descartar(SuscriptorTurnos suscriptor) {
+        log.debug("Conexión SSE de turnos descartada: envío bloqueado más de {}", TIEMPO_MAXIMO_ENVIO);
+        suscriptores.remove(suscriptor);
+        suscriptor.descartado = true;
+        Future<?> envio = suscriptor.envio;
+        if (envio != null) {
+            envio.cancel(true);
+        }
+        if (!suscriptor.enviando.get()) {
+            suscriptor.cerrar(null);
+        }
+    }
+}
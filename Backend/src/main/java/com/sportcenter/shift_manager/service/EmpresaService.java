@@ -1,11 +1,16 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.config.CacheConfig;
 import com.sportcenter.shift_manager.dto.EmpresaDTO;
 import com.sportcenter.shift_manager.exception.ResourceNotFoundException;
 import com.sportcenter.shift_manager.model.Colaborador;
 import com.sportcenter.shift_manager.model.Empresa;
 import com.sportcenter.shift_manager.repository.ColaboradorRepository;
 import com.sportcenter.shift_manager.repository.EmpresaRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,14 +20,17 @@ import java.util.List;
 public class EmpresaService {
     private final EmpresaRepository empresaRepository;
     private final ColaboradorRepository colaboradorRepository;
+    private final VersionMaestros versionMaestros;
 
-    public EmpresaService(EmpresaRepository empresaRepository, ColaboradorRepository colaboradorRepository) {
+    public EmpresaService(EmpresaRepository empresaRepository, ColaboradorRepository colaboradorRepository, VersionMaestros versionMaestros) {
         this.empresaRepository = empresaRepository;
         this.colaboradorRepository = colaboradorRepository;
+        this.versionMaestros = versionMaestros;
     }
 
     // Guardar una nueva empresa
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public Empresa saveEmpresa(Empresa empresa) {
         if (empresaRepository.findByNombre(empresa.getNombre()).isPresent()) {
             throw new IllegalArgumentException("Ya existe una empresa con el nombre: " + empresa.getNombre());
@@ -34,12 +42,17 @@ public class EmpresaService {
     }
 
     // Obtener todas las empresas
+    @Cacheable(cacheNames = CacheConfig.EMPRESAS, key = "'todas'")
     public List<EmpresaDTO> getAllEmpresas() {
         return empresaRepository.findAll().stream()
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    public Page<EmpresaDTO> getEmpresas(Pageable pageable) {
+        return empresaRepository.findAll(pageable).map(this::convertToDTO);
+    }
+
     public int getNumeroDeEmpleados(Long id) {
         Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empresa con ID " + id + " no encontrada"));
@@ -47,6 +60,7 @@ public class EmpresaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public Empresa toggleHabilitacionEmpresa(Long id, boolean habilitada) {
         Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empresa con ID " + id + " no encontrada"));
@@ -54,6 +68,7 @@ public class EmpresaService {
         return empresaRepository.save(empresa);
     }
 
+    @Cacheable(cacheNames = CacheConfig.EMPRESAS, key = "'habilitada-' + #habilitada")
     public List<EmpresaDTO> getEmpresasPorHabilitacion(boolean habilitada) {
         return empresaRepository.findByHabilitada(habilitada).stream()
                 .map(this::convertToDTO)
@@ -61,6 +76,7 @@ public class EmpresaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public Empresa updateEmpresa(Long id, Empresa empresaDetails) {
         Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empresa con ID " + id + " no encontrada"));
@@ -77,10 +93,12 @@ public class EmpresaService {
         empresa.setNombre(empresaDetails.getNombre());
         empresa.setRuc(empresaDetails.getRuc());
         empresa.setHabilitada(empresaDetails.isHabilitada());
+        versionMaestros.incrementar();
         return empresaRepository.save(empresa);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EMPRESAS, allEntries = true)
     public void deleteEmpresa(Long id) {
         Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empresa con ID " + id + " no encontrada"));
@@ -92,6 +110,7 @@ public class EmpresaService {
         }
 
         empresaRepository.delete(empresa);
+        versionMaestros.incrementar();
     }
 
     public EmpresaDTO convertToDTO(Empresa empresa) {
@@ -0,0 +1,63 @@
+package com.sportcenter.shift_manager.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// CSV en UTF-8 con BOM (para que Excel respete las tildes), separado por comas.
+// El buffer se vacía cada FILAS_POR_BLOQUE filas para que el cliente reciba la descarga por partes.
+final class EscritorCsv implements EscritorFilas {
+    private static final int FILAS_POR_BLOQUE = 1000;
+
+    private final Writer writer;
+    private int filasPendientes;
+
+    EscritorCsv(OutputStream salida) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void encabezados(List<String> titulos) throws IOException {
+        escribir(titulos);
+    }
+
+    @Override
+    public void fila(List<?> valores) throws IOException {
+        escribir(valores);
+        if (++filasPendientes >= FILAS_POR_BLOQUE) {
+            writer.flush();
+            filasPendientes = 0;
+        }
+    }
+
+    private void escribir(List<?> valores) throws IOException {
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapar(valores.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapar(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,14 @@
+package com.sportcenter.shift_manager.service;
+
+import java.io.IOException;
+import java.util.List;
+
+// Destino de una exportación: recibe las filas de una en una y las escribe sin acumularlas en memoria
+interface EscritorFilas extends AutoCloseable {
+    void encabezados(List<String> titulos) throws IOException;
+
+    void fila(List<?> valores) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,84 @@
+package com.sportcenter.shift_manager.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+// Libro XLSX en streaming (SXSSF): solo VENTANA_FILAS filas quedan en memoria, el resto se vuelca
+// a un archivo temporal comprimido que se copia a la respuesta al cerrar.
+final class EscritorXlsx implements EscritorFilas {
+    private static final int VENTANA_FILAS = 100;
+
+    private final OutputStream salida;
+    private final SXSSFWorkbook libro;
+    private final SXSSFSheet hoja;
+    private int siguienteFila;
+
+    EscritorXlsx(OutputStream salida) {
+        this.salida = salida;
+        this.libro = new SXSSFWorkbook(VENTANA_FILAS);
+        this.libro.setCompressTempFiles(true);
+        this.hoja = libro.createSheet("Datos");
+    }
+
+    @Override
+    public void encabezados(List<String> titulos) {
+        // Mismo estilo que generaba el frontend: negrita blanca sobre índigo
+        Font fuente = libro.createFont();
+        fuente.setBold(true);
+        fuente.setColor(IndexedColors.WHITE.getIndex());
+        CellStyle estilo = libro.createCellStyle();
+        estilo.setFont(fuente);
+        estilo.setFillForegroundColor(IndexedColors.INDIGO.getIndex());
+        estilo.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        estilo.setAlignment(HorizontalAlignment.CENTER);
+
+        Row fila = hoja.createRow(siguienteFila++);
+        for (int i = 0; i < titulos.size(); i++) {
+            Cell celda = fila.createCell(i);
+            celda.setCellValue(titulos.get(i));
+            celda.setCellStyle(estilo);
+            // SXSSF no puede autoajustar sin retener filas: ancho fijo a partir del título
+            hoja.setColumnWidth(i, Math.max(titulos.get(i).length() + 4, 14) * 256);
+        }
+        hoja.createFreezePane(0, 1);
+    }
+
+    @Override
+    public void fila(List<?> valores) {
+        Row fila = hoja.createRow(siguienteFila++);
+        for (int i = 0; i < valores.size(); i++) {
+            Object valor = valores.get(i);
+            if (valor == null) {
+                continue;
+            }
+            Cell celda = fila.createCell(i);
+            if (valor instanceof Number numero) {
+                celda.setCellValue(numero.doubleValue());
+            } else {
+                celda.setCellValue(valor.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            libro.write(salida);
+            salida.flush();
+        } finally {
+            libro.dispose();
+            libro.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sportcenter.shift_manager.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.sportcenter.shift_manager.dto.EstadisticasCacheDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class EstadisticasCacheService {
+    private final CacheManager cacheManager;
+
+    public EstadisticasCacheService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // Solo las cachés Caffeine exponen estadísticas (requiere recordStats en la spec)
+    public List<EstadisticasCacheDTO> getEstadisticas() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(CaffeineCache.class::isInstance)
+                .map(cache -> toDTO((CaffeineCache) cache))
+                .toList();
+    }
+
+    public void vaciar(String nombre) {
+        Cache cache = cacheManager.getCache(nombre);
+        if (cache == null) {
+            throw new IllegalArgumentException("No existe la caché: " + nombre);
+        }
+        cache.clear();
+    }
+
+    private EstadisticasCacheDTO toDTO(CaffeineCache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativa = cache.getNativeCache();
+        CacheStats stats = nativa.stats();
+        return new EstadisticasCacheDTO(
+                cache.getName(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                nativa.estimatedSize()
+        );
+    }
+}
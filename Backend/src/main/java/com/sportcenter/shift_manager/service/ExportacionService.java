@@ -0,0 +1,166 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Exportación de los reportes de turnos a XLSX o CSV escribiendo directamente en la respuesta.
+// Las filas salen de un cursor de solo avance y se escriben una a una: la memoria no depende del número de filas.
+// Solo los totales por colaborador (uno por colaborador) se calculan antes de empezar.
+@Service
+public class ExportacionService {
+
+    public enum Formato {
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+        CSV("csv", "text/csv;charset=UTF-8");
+
+        private final String extension;
+        private final String contentType;
+
+        Formato(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Formato desde(String valor) {
+            if (valor == null || valor.isBlank()) {
+                return XLSX;
+            }
+            try {
+                return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato no soportado: " + valor + " (usar xlsx o csv)");
+            }
+        }
+    }
+
+    // Validar antes de empezar la descarga: dentro del cuerpo el 200 y los encabezados ya salieron
+    public static YearMonth mesDelResumen(int mes, int anio) {
+        try {
+            return YearMonth.of(anio, mes);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Mes o año inválido: " + mes + "/" + anio);
+        }
+    }
+
+    private record Columna(String titulo, Function<TurnoDTO, Object> valor) {
+    }
+
+    private static final List<Columna> COLUMNAS_TURNO = List.of(
+            new Columna("Colaborador", TurnoDTO::getNombreColaborador),
+            new Columna("DNI", TurnoDTO::getDniColaborador),
+            new Columna("Empresa", TurnoDTO::getNombreEmpresa),
+            new Columna("Tienda", TurnoDTO::getNombreTienda),
+            new Columna("Fecha", TurnoDTO::getFecha),
+            new Columna("Ingreso", TurnoDTO::getHoraEntrada),
+            new Columna("Salida", TurnoDTO::getHoraSalida));
+
+    private final TurnoRepository turnoRepository;
+    private final ResumenHorasService resumenHorasService;
+    private final TurnoService turnoService;
+    private final TransactionTemplate transaccionLectura;
+
+    public ExportacionService(TurnoRepository turnoRepository,
+                              ResumenHorasService resumenHorasService,
+                              TurnoService turnoService,
+                              PlatformTransactionManager transactionManager) {
+        this.turnoRepository = turnoRepository;
+        this.resumenHorasService = resumenHorasService;
+        this.turnoService = turnoService;
+        this.transaccionLectura = new TransactionTemplate(transactionManager);
+        this.transaccionLectura.setReadOnly(true);
+    }
+
+    // Mismas filas que GET /api/turnos/reporte
+    public void exportarHorasTrabajadas(List<Long> colaboradores, LocalDate inicio, LocalDate fin, Formato formato, OutputStream salida) {
+        transaccionLectura.executeWithoutResult(status -> {
+            Map<Long, Double> totales = TurnoService.horasPorColaborador(resumenHorasService.minutosPorColaboradores(colaboradores, inicio, fin));
+            try (Stream<TurnoDTO> turnos = turnoRepository.streamDTOByColaboradorIdInAndFechaBetween(colaboradores, inicio, fin)) {
+                escribirTurnos(turnos, totales, formato, salida,
+                        new Columna("SubTotal", TurnoDTO::getHorasTrabajadas),
+                        new Columna("Total Colaborador", TurnoDTO::getHorasTotalesSemana));
+            }
+        });
+    }
+
+    // Mismas filas que GET /api/turnos/reporte/feriados
+    public void exportarTurnosEnFeriados(List<Long> colaboradores, LocalDate inicio, LocalDate fin, Formato formato, OutputStream salida) {
+        transaccionLectura.executeWithoutResult(status -> {
+            Map<Long, Double> totales = TurnoService.horasPorColaborador(resumenHorasService.minutosFeriadoPorColaboradores(colaboradores, inicio, fin));
+            try (Stream<TurnoDTO> turnos = turnoRepository.streamDTOFeriadosByColaboradorIdInAndFechaBetween(colaboradores, inicio, fin)) {
+                escribirTurnos(turnos, totales, formato, salida,
+                        new Columna("Horas", TurnoDTO::getHorasTrabajadas),
+                        new Columna("Horas en Feriado", TurnoDTO::getHorasTotalesSemana));
+            }
+        });
+    }
+
+    // Mismas filas que GET /api/turnos/colab-tienda-fecha
+    public void exportarTurnosPorTienda(Long tiendaId, LocalDate inicio, LocalDate fin, Formato formato, OutputStream salida) {
+        transaccionLectura.executeWithoutResult(status -> {
+            Map<Long, Double> totales = TurnoService.horasPorColaborador(turnoRepository.sumMinutosPorColaboradorEnTienda(tiendaId, inicio, fin));
+            try (Stream<TurnoDTO> turnos = turnoRepository.streamDTOByTiendaIdAndFechaBetween(tiendaId, inicio, fin)) {
+                escribirTurnos(turnos, totales, formato, salida,
+                        new Columna("Horas", TurnoDTO::getHorasTrabajadas),
+                        new Columna("Total en Tienda", TurnoDTO::getHorasTotalesSemana));
+            }
+        });
+    }
+
+    // Una fila por colaborador (sale de los acumulados mensuales, no de los turnos)
+    public void exportarResumenMensual(List<Long> colaboradores, YearMonth periodo, Formato formato, OutputStream salida) {
+        List<ResumenMensualDTO> resumenes = turnoService.getResumenMensualPorColaboradores(colaboradores, periodo.getMonthValue(), periodo.getYear(), false);
+        try (EscritorFilas escritor = crearEscritor(formato, salida)) {
+            escritor.encabezados(List.of("Colaborador", "Total Horas", "Días Feriados Trabajados", "Horas en Feriados"));
+            for (ResumenMensualDTO resumen : resumenes) {
+                escritor.fila(List.of(resumen.getNombreColaborador(), resumen.getTotalHorasMes(),
+                        resumen.getDiasFeriadosTrabajados(), resumen.getHorasEnFeriados()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void escribirTurnos(Stream<TurnoDTO> turnos, Map<Long, Double> totales, Formato formato, OutputStream salida, Columna... extras) {
+        List<Columna> columnas = Stream.concat(COLUMNAS_TURNO.stream(), Stream.of(extras)).toList();
+        try (EscritorFilas escritor = crearEscritor(formato, salida)) {
+            escritor.encabezados(columnas.stream().map(Columna::titulo).toList());
+            Iterator<TurnoDTO> iterador = turnos.iterator();
+            while (iterador.hasNext()) {
+                TurnoDTO turno = iterador.next();
+                turno.setHorasTotalesSemana(totales.getOrDefault(turno.getColaboradorId(), 0.0));
+                escritor.fila(columnas.stream().map(columna -> columna.valor().apply(turno)).toList());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EscritorFilas crearEscritor(Formato formato, OutputStream salida) throws IOException {
+        return formato == Formato.CSV ? new EscritorCsv(salida) : new EscritorXlsx(salida);
+    }
+}
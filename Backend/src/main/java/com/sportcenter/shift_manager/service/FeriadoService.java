@@ -1,24 +1,36 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.config.CacheConfig;
 import com.sportcenter.shift_manager.model.Feriado;
 import com.sportcenter.shift_manager.repository.FeriadoRepository;
 import jakarta.annotation.PostConstruct;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class FeriadoService {
     private final FeriadoRepository feriadoRepository;
+    private final VersionMaestros versionMaestros;
 
-    public FeriadoService(FeriadoRepository feriadoRepository) {
+    // Calendario en memoria: isFeriado nunca consulta la base de datos
+    private volatile CalendarioFeriados calendario = CalendarioFeriados.vacio();
+    // Todas las llamadas a isFeriado, y las que caen en un año sin ningún feriado registrado
+    // (responden "no es feriado" por falta de datos: señal de que hay que cargar ese año)
+    private final AtomicLong consultas = new AtomicLong();
+    private final AtomicLong consultasSinCalendario = new AtomicLong();
+
+    public FeriadoService(FeriadoRepository feriadoRepository, VersionMaestros versionMaestros) {
         this.feriadoRepository = feriadoRepository;
+        this.versionMaestros = versionMaestros;
     }
 
-    @Transactional
     @PostConstruct
     public void initializeFeriados() {
         if (feriadoRepository.count() == 0) {
@@ -42,13 +54,48 @@ public class FeriadoService {
             );
             feriadoRepository.saveAll(feriadosIniciales);
         }
+        // Al iniciar no hay nada en caché ni ETag emitidos: basta con cargar el calendario
+        cargarCalendario();
+    }
+
+    // Reconstruye el calendario desde la tabla feriado; llamar (a través del bean) tras cualquier alta, cambio o baja
+    @CacheEvict(cacheNames = CacheConfig.FERIADOS, allEntries = true)
+    public void recargarCalendario() {
+        cargarCalendario();
+        versionMaestros.incrementar();
     }
 
+    private void cargarCalendario() {
+        calendario = CalendarioFeriados.desde(feriadoRepository.findAll());
+    }
+
+    @Cacheable(cacheNames = CacheConfig.FERIADOS, key = "'todos'")
     public List<Feriado> getAllFeriados() {
-        return feriadoRepository.findAll();
+        return List.copyOf(feriadoRepository.findAll());
     }
 
     public boolean isFeriado(LocalDate fecha) {
-        return feriadoRepository.existsByFecha(fecha);
+        if (fecha == null) {
+            return false;
+        }
+        consultas.incrementAndGet();
+        BitSet dias = calendario.diasDelAnio(fecha.getYear());
+        if (dias == null) {
+            consultasSinCalendario.incrementAndGet();
+            return false;
+        }
+        return dias.get(fecha.getDayOfYear());
+    }
+
+    public long getConsultasCalendario() {
+        return consultas.get();
+    }
+
+    public long getConsultasSinCalendario() {
+        return consultasSinCalendario.get();
+    }
+
+    public int getTotalFeriadosEnCalendario() {
+        return calendario.totalFeriados();
     }
 }
\ No newline at end of file
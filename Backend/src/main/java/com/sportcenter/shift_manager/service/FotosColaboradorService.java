@@ -0,0 +1,147 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Subida y borrado de fotos de colaboradores fuera de la transacción y del hilo de la petición.
+// El colaborador se guarda con la foto PENDIENTE; al confirmar, la subida va a un pool acotado con reintentos
+// y al terminar se fija fotoUrl (LISTA) o se marca ERROR. La imagen anterior se borra recién cuando la nueva
+// ya está guardada, así el colaborador nunca queda sin foto mientras tanto.
+@Service
+public class FotosColaboradorService {
+    private static final Logger log = LoggerFactory.getLogger(FotosColaboradorService.class);
+
+    static final int HILOS = 2;
+    static final int CAPACIDAD_COLA = 50;
+
+    private final ImageStore imageStore;
+    private final ColaboradorRepository colaboradorRepository;
+    private final ApplicationEventPublisher eventos;
+    private final int intentos;
+    private final long esperaMs;
+    private final ThreadPoolExecutor trabajos;
+
+    public FotosColaboradorService(
+            ImageStore imageStore,
+            ColaboradorRepository colaboradorRepository,
+            ApplicationEventPublisher eventos,
+            @Value("${imagenes.intentos:3}") int intentos,
+            @Value("${imagenes.espera-reintento-ms:1000}") long esperaMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean hilosVirtuales) {
+        this.imageStore = imageStore;
+        this.colaboradorRepository = colaboradorRepository;
+        this.eventos = eventos;
+        this.intentos = intentos;
+        this.esperaMs = esperaMs;
+        // Aun con hilos virtuales el pool sigue acotado: limita las subidas simultáneas al almacén
+        this.trabajos = new ThreadPoolExecutor(HILOS, HILOS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(CAPACIDAD_COLA), HilosInternos.fabrica("fotos-colaborador-", HilosInternos.virtuales(hilosVirtuales)));
+    }
+
+    // Antes de guardar el colaborador: queda PENDIENTE con una solicitud nueva (la anterior, si la había, se descarta)
+    public void marcarPendiente(Colaborador colaborador) {
+        colaborador.setFotoEstado(Colaborador.FOTO_PENDIENTE);
+        colaborador.setFotoSolicitud(UUID.randomUUID().toString());
+    }
+
+    // Después de guardarlo: los bytes se copian ahora porque el archivo temporal de la petición no sobrevive.
+    // fotoUrl todavía es la anterior; se borra cuando la nueva esté arriba.
+    public void programarSubida(Colaborador colaborador, MultipartFile file) throws IOException {
+        eventos.publishEvent(new SolicitudFoto(colaborador.getId(), colaborador.getFotoSolicitud(),
+                file.getBytes(), file.getContentType(), colaborador.getFotoUrl()));
+    }
+
+    public void programarEliminacion(String url) {
+        if (url != null) {
+            eventos.publishEvent(new SolicitudFoto(null, null, null, null, url));
+        }
+    }
+
+    // Solo si la transacción del colaborador confirma: un rollback no deja imágenes huérfanas
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alConfirmar(SolicitudFoto solicitud) {
+        try {
+            trabajos.execute(() -> procesar(solicitud));
+        } catch (RejectedExecutionException e) {
+            log.warn("Cola de fotos llena, se descarta la solicitud del colaborador {}", solicitud.colaboradorId());
+            if (solicitud.contenido() != null) {
+                colaboradorRepository.marcarFoto(solicitud.colaboradorId(), solicitud.solicitud(), Colaborador.FOTO_ERROR);
+            }
+        }
+    }
+
+    void procesar(SolicitudFoto solicitud) {
+        if (solicitud.contenido() != null) {
+            String url = conReintentos("subir foto", () -> imageStore.subir(solicitud.contenido(), solicitud.contentType()));
+            if (url == null) {
+                colaboradorRepository.marcarFoto(solicitud.colaboradorId(), solicitud.solicitud(), Colaborador.FOTO_ERROR);
+                return;
+            }
+            // Otra foto más nueva o un colaborador eliminado: esta subida sobra
+            if (colaboradorRepository.completarFoto(solicitud.colaboradorId(), solicitud.solicitud(), url, Colaborador.FOTO_LISTA) == 0) {
+                eliminar(url);
+                return;
+            }
+        }
+        if (solicitud.urlAnterior() != null) {
+            eliminar(solicitud.urlAnterior());
+        }
+    }
+
+    @PreDestroy
+    public void cerrar() throws InterruptedException {
+        trabajos.shutdown();
+        trabajos.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void eliminar(String url) {
+        conReintentos("eliminar foto " + url, () -> {
+            imageStore.eliminar(url);
+            return url;
+        });
+    }
+
+    // null si se agotan los intentos; la espera crece con cada intento
+    private <T> T conReintentos(String descripcion, Operacion<T> operacion) {
+        for (int intento = 1; intento <= intentos; intento++) {
+            try {
+                return operacion.ejecutar();
+            } catch (IOException | RuntimeException e) {
+                log.warn("No se pudo {} (intento {} de {}): {}", descripcion, intento, intentos, e.getMessage());
+                if (intento < intentos && !esperar(esperaMs * intento)) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean esperar(long ms) {
+        try {
+            Thread.sleep(ms);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private interface Operacion<T> {
+        T ejecutar() throws IOException;
+    }
+}
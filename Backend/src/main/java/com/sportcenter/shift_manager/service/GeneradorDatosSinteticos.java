@@ -0,0 +1,256 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.Empresa;
+import com.sportcenter.shift_manager.model.Feriado;
+import com.sportcenter.shift_manager.model.Puesto;
+import com.sportcenter.shift_manager.model.Tienda;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.EmpresaRepository;
+import com.sportcenter.shift_manager.repository.FeriadoRepository;
+import com.sportcenter.shift_manager.repository.PuestoRepository;
+import com.sportcenter.shift_manager.repository.TiendaRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Carga una base con el volumen de un cliente real para pruebas de carga locales (perfil datos-sinteticos).
+// Empresas, tiendas, puestos, colaboradores y años de turnos (con turnos partidos, descansos y feriados),
+// insertados en lotes JDBC con los acumulados de horas al día. Solo corre sobre una base sin colaboradores.
+@Component
+@Profile("datos-sinteticos")
+public class GeneradorDatosSinteticos {
+    private static final Logger log = LoggerFactory.getLogger(GeneradorDatosSinteticos.class);
+
+    // Feriados nacionales de fecha fija; se registran para cada año del historial
+    private static final List<MonthDay> FERIADOS_FIJOS = List.of(
+            MonthDay.of(1, 1), MonthDay.of(5, 1), MonthDay.of(6, 7), MonthDay.of(6, 29), MonthDay.of(7, 23),
+            MonthDay.of(7, 28), MonthDay.of(7, 29), MonthDay.of(8, 6), MonthDay.of(8, 30), MonthDay.of(10, 8),
+            MonthDay.of(11, 1), MonthDay.of(12, 8), MonthDay.of(12, 9), MonthDay.of(12, 25));
+    private static final String[] NOMBRES = {"Ana", "Luis", "María", "Jorge", "Rosa", "Carlos", "Lucía", "Pedro", "Sofía", "Diego"};
+    private static final String[] APELLIDOS = {"Quispe", "Flores", "Sánchez", "Rodríguez", "García", "Mamani", "Torres", "Rojas"};
+    private static final String[] PUESTOS = {"Recepción", "Instructor", "Salvavidas", "Limpieza", "Mantenimiento", "Ventas", "Supervisor", "Caja"};
+
+    private final EmpresaRepository empresaRepository;
+    private final TiendaRepository tiendaRepository;
+    private final PuestoRepository puestoRepository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final FeriadoRepository feriadoRepository;
+    private final TurnoRepository turnoRepository;
+    private final FeriadoService feriadoService;
+    private final ResumenHorasService resumenHorasService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final int empresas;
+    private final int tiendas;
+    private final int puestos;
+    private final int colaboradores;
+    private final int anios;
+    private final String hasta;
+    private final long semilla;
+    private final int tamanoLote;
+
+    public GeneradorDatosSinteticos(EmpresaRepository empresaRepository,
+                                    TiendaRepository tiendaRepository,
+                                    PuestoRepository puestoRepository,
+                                    ColaboradorRepository colaboradorRepository,
+                                    FeriadoRepository feriadoRepository,
+                                    TurnoRepository turnoRepository,
+                                    FeriadoService feriadoService,
+                                    ResumenHorasService resumenHorasService,
+                                    TransactionTemplate transactionTemplate,
+                                    EntityManager entityManager,
+                                    @Value("${generador.empresas:5}") int empresas,
+                                    @Value("${generador.tiendas:10}") int tiendas,
+                                    @Value("${generador.puestos:6}") int puestos,
+                                    @Value("${generador.colaboradores:200}") int colaboradores,
+                                    @Value("${generador.anios:2}") int anios,
+                                    @Value("${generador.hasta:}") String hasta,
+                                    @Value("${generador.semilla:42}") long semilla,
+                                    @Value("${generador.tamano-lote:1000}") int tamanoLote) {
+        this.empresaRepository = empresaRepository;
+        this.tiendaRepository = tiendaRepository;
+        this.puestoRepository = puestoRepository;
+        this.colaboradorRepository = colaboradorRepository;
+        this.feriadoRepository = feriadoRepository;
+        this.turnoRepository = turnoRepository;
+        this.feriadoService = feriadoService;
+        this.resumenHorasService = resumenHorasService;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.empresas = empresas;
+        this.tiendas = tiendas;
+        this.puestos = Math.min(puestos, PUESTOS.length);
+        this.colaboradores = colaboradores;
+        this.anios = anios;
+        this.hasta = hasta;
+        this.semilla = semilla;
+        this.tamanoLote = tamanoLote;
+    }
+
+    // Las migraciones ya dejaron minutos y acumulados al día: los turnos generados suman al insertarse
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() {
+        if (colaboradorRepository.count() > 0) {
+            log.info("La base ya tiene colaboradores: no se generan datos sintéticos");
+            return;
+        }
+        generar();
+    }
+
+    public long generar() {
+        Random random = new Random(semilla);
+        // Por defecto hasta fin del mes siguiente: la programación suele estar cargada con anticipación
+        LocalDate fin = hasta.isBlank()
+                ? LocalDate.now().withDayOfMonth(1).plusMonths(2).minusDays(1)
+                : LocalDate.parse(hasta);
+        LocalDate inicio = fin.minusYears(anios).plusDays(1);
+
+        registrarFeriados(inicio, fin);
+        List<Colaborador> plantilla = transactionTemplate.execute(status -> crearMaestros(random));
+        List<Tienda> sedes = tiendaRepository.findAll();
+
+        long total = 0;
+        List<Turno> lote = new ArrayList<>(tamanoLote + 1);
+        for (LocalDate fecha = inicio; !fecha.isAfter(fin); fecha = fecha.plusDays(1)) {
+            boolean esFeriado = feriadoService.isFeriado(fecha);
+            for (Colaborador colaborador : plantilla) {
+                generarDia(colaborador, fecha, esFeriado, sedes, random, lote);
+                if (lote.size() >= tamanoLote) {
+                    total += guardar(lote);
+                }
+            }
+        }
+        total += guardar(lote);
+        log.info("Datos sintéticos: {} empresas, {} tiendas, {} puestos, {} colaboradores y {} turnos del {} al {}",
+                empresas, tiendas, puestos, plantilla.size(), total, inicio, fin);
+        return total;
+    }
+
+    private void registrarFeriados(LocalDate inicio, LocalDate fin) {
+        List<Feriado> nuevos = new ArrayList<>();
+        for (int anio = inicio.getYear(); anio <= fin.getYear(); anio++) {
+            for (MonthDay dia : FERIADOS_FIJOS) {
+                LocalDate fecha = dia.atYear(anio);
+                if (!feriadoRepository.existsByFecha(fecha)) {
+                    nuevos.add(new Feriado(null, fecha, "Feriado " + dia));
+                }
+            }
+        }
+        feriadoRepository.saveAll(nuevos);
+        feriadoService.recargarCalendario();
+    }
+
+    private List<Colaborador> crearMaestros(Random random) {
+        List<Empresa> listaEmpresas = new ArrayList<>();
+        for (int i = 1; i <= empresas; i++) {
+            Empresa empresa = new Empresa();
+            empresa.setNombre("Empresa Sintética " + i);
+            empresa.setRuc(String.format("20%09d", i));
+            listaEmpresas.add(empresa);
+        }
+        empresaRepository.saveAll(listaEmpresas);
+
+        List<Tienda> listaTiendas = new ArrayList<>();
+        for (int i = 1; i <= tiendas; i++) {
+            Tienda tienda = new Tienda();
+            tienda.setNombre("Sede " + i);
+            tienda.setDireccion("Av. Sintética " + (100 + i));
+            listaTiendas.add(tienda);
+        }
+        tiendaRepository.saveAll(listaTiendas);
+
+        List<Puesto> listaPuestos = new ArrayList<>();
+        for (int i = 0; i < puestos; i++) {
+            Puesto puesto = new Puesto();
+            puesto.setNombre(PUESTOS[i]);
+            listaPuestos.add(puesto);
+        }
+        puestoRepository.saveAll(listaPuestos);
+
+        List<Colaborador> lista = new ArrayList<>();
+        for (int i = 1; i <= colaboradores; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNombre(NOMBRES[random.nextInt(NOMBRES.length)]);
+            // El apellido lleva el número: nombre + apellido es único
+            colaborador.setApellido(APELLIDOS[random.nextInt(APELLIDOS.length)] + " " + i);
+            colaborador.setDni(String.format("%08d", 70000000 + i));
+            colaborador.setEmail("colaborador" + i + "@sintetico.test");
+            colaborador.setEmpresa(listaEmpresas.get(random.nextInt(listaEmpresas.size())));
+            colaborador.setPuesto(listaPuestos.isEmpty() ? null : listaPuestos.get(random.nextInt(listaPuestos.size())));
+            colaborador.setFechaNacimiento(LocalDate.of(1975 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            lista.add(colaborador);
+        }
+        return colaboradorRepository.saveAll(lista);
+    }
+
+    // Un día de un colaborador: descanso semanal fijo, alguna ausencia, turno partido (mañana y tarde) o corrido.
+    // En feriado trabaja menos de la mitad del personal.
+    private void generarDia(Colaborador colaborador, LocalDate fecha, boolean esFeriado, List<Tienda> sedes, Random random, List<Turno> lote) {
+        DayOfWeek descanso = DayOfWeek.of(1 + (int) (colaborador.getId() % 7));
+        if (fecha.getDayOfWeek() == descanso || random.nextInt(100) < 8 || (esFeriado && random.nextInt(100) < 60)) {
+            return;
+        }
+        // Casi siempre en su sede; a veces cubre otra
+        Tienda sede = sedes.get((int) (colaborador.getId() % sedes.size()));
+        Tienda tienda = random.nextInt(100) < 10 ? sedes.get(random.nextInt(sedes.size())) : sede;
+
+        if (random.nextInt(100) < 20) {
+            LocalTime manana = LocalTime.of(7 + random.nextInt(2), random.nextBoolean() ? 0 : 30);
+            LocalTime tarde = LocalTime.of(16 + random.nextInt(2), random.nextBoolean() ? 0 : 30);
+            lote.add(turno(colaborador, tienda, fecha, manana, manana.plusHours(4), esFeriado));
+            lote.add(turno(colaborador, tienda, fecha, tarde, tarde.plusHours(4), esFeriado));
+        } else {
+            LocalTime entrada = LocalTime.of(6, 0).plusMinutes(30L * random.nextInt(17));
+            LocalTime salida = entrada.plusMinutes(360 + 30L * random.nextInt(6));
+            lote.add(turno(colaborador, tienda, fecha, entrada, salida, esFeriado));
+        }
+    }
+
+    private Turno turno(Colaborador colaborador, Tienda tienda, LocalDate fecha, LocalTime entrada, LocalTime salida, boolean esFeriado) {
+        Turno turno = new Turno();
+        turno.setColaborador(colaborador);
+        turno.setEmpresa(colaborador.getEmpresa());
+        turno.setTienda(tienda);
+        turno.setFecha(fecha);
+        turno.setHoraEntrada(entrada);
+        turno.setHoraSalida(salida);
+        turno.setEsFeriado(esFeriado);
+        turno.calcularMinutosTrabajados();
+        return turno;
+    }
+
+    // Una transacción corta por lote, como el alta por lotes de TurnoService. Los turnos se vuelcan y se
+    // sacan del contexto antes de acumular: cada UPDATE de acumulados hace un flush automático y revisaría el lote entero.
+    private int guardar(List<Turno> lote) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            turnoRepository.saveAll(lote);
+            entityManager.flush();
+            entityManager.clear();
+            resumenHorasService.sumarTodos(lote);
+        });
+        int guardados = lote.size();
+        lote.clear();
+        return guardados;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sportcenter.shift_manager.service;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hilos de los pools internos (envíos SSE, fotos). Con spring.threads.virtual.enabled y Java 21 son virtuales,
+// igual que los de Tomcat y @Scheduled; en Java 17 la propiedad se ignora y son hilos de plataforma daemon.
+final class HilosInternos {
+
+    private HilosInternos() {
+    }
+
+    static boolean virtuales(boolean habilitados) {
+        return habilitados && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    static ThreadFactory fabrica(String prefijo, boolean virtuales) {
+        if (virtuales) {
+            return new VirtualThreadTaskExecutor(prefijo).getVirtualThreadFactory();
+        }
+        AtomicInteger contador = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, prefijo + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+}
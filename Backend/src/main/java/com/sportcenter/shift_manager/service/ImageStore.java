@@ -0,0 +1,11 @@
+package com.sportcenter.shift_manager.service;
+
+import java.io.IOException;
+
+// Almacén de las fotos de colaboradores. La URL que devuelve subir es la que se guarda en fotoUrl
+// y la que luego recibe eliminar. Se elige con imagenes.almacen (cloudinary por defecto, o local).
+public interface ImageStore {
+    String subir(byte[] contenido, String contentType) throws IOException;
+
+    void eliminar(String url) throws IOException;
+}
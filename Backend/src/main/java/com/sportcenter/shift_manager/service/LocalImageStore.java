@@ -0,0 +1,56 @@
+package com.sportcenter.shift_manager.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+// Fotos en un directorio local, servidas por ImagenesConfig bajo url-base. Para desarrollo y pruebas sin Cloudinary.
+@Service
+@ConditionalOnProperty(name = "imagenes.almacen", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+    private static final Map<String, String> EXTENSIONES = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp"
+    );
+
+    private final Path directorio;
+    private final String urlBase;
+
+    public LocalImageStore(
+            @Value("${imagenes.local.directorio:fotos}") String directorio,
+            @Value("${imagenes.local.url-base:/fotos/}") String urlBase) throws IOException {
+        this.directorio = Files.createDirectories(Path.of(directorio)).toAbsolutePath().normalize();
+        this.urlBase = urlBase.endsWith("/") ? urlBase : urlBase + "/";
+    }
+
+    @Override
+    public String subir(byte[] contenido, String contentType) throws IOException {
+        String nombre = UUID.randomUUID() + EXTENSIONES.getOrDefault(contentType, ".img");
+        Path destino = directorio.resolve(nombre);
+        // Se escribe aparte y se renombra: nunca se sirve un archivo a medio escribir
+        Path temporal = Files.write(directorio.resolve(nombre + ".tmp"), contenido);
+        Files.move(temporal, destino);
+        return urlBase + nombre;
+    }
+
+    @Override
+    public void eliminar(String url) throws IOException {
+        Path archivo = directorio.resolve(url.substring(url.lastIndexOf('/') + 1)).normalize();
+        if (!archivo.getParent().equals(directorio)) {
+            throw new IOException("La URL no pertenece al almacén local: " + url);
+        }
+        Files.deleteIfExists(archivo);
+    }
+
+    Path getDirectorio() {
+        return directorio;
+    }
+}
@@ -0,0 +1,192 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.PlantillaSemanaDTO;
+import com.sportcenter.shift_manager.dto.ResultadoProgramacionDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.exception.ResourceNotFoundException;
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.PlantillaSemana;
+import com.sportcenter.shift_manager.model.PlantillaTurno;
+import com.sportcenter.shift_manager.model.Tienda;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.PlantillaSemanaRepository;
+import com.sportcenter.shift_manager.repository.PlantillaTurnoRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Programación de semanas completas: copiar una semana existente o aplicar una plantilla guardada
+// a un rango de semanas. Los turnos nuevos se insertan en lotes JDBC y los acumulados se actualizan
+// una vez por día/semana/mes, igual que en POST /api/turnos/batch. Como toda escritura de turnos, tiene
+// el tope de CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA para que el feed de cambios no la pierda.
+@Service
+public class ProgramacionService {
+    static final int SEMANAS_MAXIMAS = 52;
+
+    private final TurnoRepository turnoRepository;
+    private final PlantillaSemanaRepository plantillaSemanaRepository;
+    private final PlantillaTurnoRepository plantillaTurnoRepository;
+    private final FeriadoService feriadoService;
+    private final ResumenHorasService resumenHorasService;
+    private final ApplicationEventPublisher eventos;
+
+    public ProgramacionService(TurnoRepository turnoRepository,
+                               PlantillaSemanaRepository plantillaSemanaRepository,
+                               PlantillaTurnoRepository plantillaTurnoRepository,
+                               FeriadoService feriadoService,
+                               ResumenHorasService resumenHorasService,
+                               ApplicationEventPublisher eventos) {
+        this.turnoRepository = turnoRepository;
+        this.plantillaSemanaRepository = plantillaSemanaRepository;
+        this.plantillaTurnoRepository = plantillaTurnoRepository;
+        this.feriadoService = feriadoService;
+        this.resumenHorasService = resumenHorasService;
+        this.eventos = eventos;
+    }
+
+    // Copia los turnos de la semana que contiene "origen" (opcionalmente solo de una tienda)
+    // a "semanas" semanas consecutivas a partir de la que contiene "destino"
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
+    public ResultadoProgramacionDTO copiarSemana(LocalDate origen, LocalDate destino, int semanas, Long tiendaId) {
+        LocalDate inicioOrigen = inicioSemana(origen);
+        return programar(moldesDeSemana(inicioOrigen, tiendaId), inicioSemana(destino), semanas);
+    }
+
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
+    public ResultadoProgramacionDTO aplicarPlantilla(Long plantillaId, LocalDate destino, int semanas) {
+        if (!plantillaSemanaRepository.existsById(plantillaId)) {
+            throw new ResourceNotFoundException("Plantilla con ID " + plantillaId + " no encontrada");
+        }
+        List<Molde> moldes = plantillaTurnoRepository.findByPlantilla_Id(plantillaId).stream()
+                .map(t -> new Molde(t.getColaborador(), t.getTienda(), DayOfWeek.of(t.getDiaSemana()), t.getHoraEntrada(), t.getHoraSalida()))
+                .toList();
+        return programar(moldes, inicioSemana(destino), semanas);
+    }
+
+    // Guarda como plantilla los turnos de la semana que contiene "fecha"
+    @Transactional
+    public PlantillaSemanaDTO guardarPlantilla(String nombre, LocalDate fecha, Long tiendaId) {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El nombre de la plantilla es obligatorio");
+        }
+        if (plantillaSemanaRepository.existsByNombre(nombre.trim())) {
+            throw new IllegalArgumentException("Ya existe una plantilla con el nombre " + nombre.trim());
+        }
+        List<Molde> moldes = moldesDeSemana(inicioSemana(fecha), tiendaId);
+        if (moldes.isEmpty()) {
+            throw new IllegalArgumentException("La semana seleccionada no tiene turnos");
+        }
+
+        PlantillaSemana plantilla = plantillaSemanaRepository.save(new PlantillaSemana(null, nombre.trim(), LocalDate.now()));
+        List<PlantillaTurno> turnos = moldes.stream()
+                .map(m -> new PlantillaTurno(null, plantilla, m.colaborador(), m.tienda(), m.dia().getValue(), m.horaEntrada(), m.horaSalida()))
+                .toList();
+        plantillaTurnoRepository.saveAll(turnos);
+        return new PlantillaSemanaDTO(plantilla.getId(), plantilla.getNombre(), plantilla.getFechaCreacion(), (long) turnos.size());
+    }
+
+    public List<PlantillaSemanaDTO> getPlantillas() {
+        return plantillaSemanaRepository.findAllConTotalTurnos();
+    }
+
+    @Transactional
+    public void eliminarPlantilla(Long plantillaId) {
+        if (!plantillaSemanaRepository.existsById(plantillaId)) {
+            throw new ResourceNotFoundException("Plantilla con ID " + plantillaId + " no encontrada");
+        }
+        // Los turnos de la plantilla se borran por la FK on delete cascade
+        plantillaSemanaRepository.deleteById(plantillaId);
+    }
+
+    private List<Molde> moldesDeSemana(LocalDate inicioSemana, Long tiendaId) {
+        LocalDate finSemana = inicioSemana.plusDays(6);
+        List<Turno> turnos = tiendaId != null
+                ? turnoRepository.findByTienda_IdAndFechaBetweenOrderByFechaAsc(tiendaId, inicioSemana, finSemana)
+                : turnoRepository.findByFechaBetween(inicioSemana, finSemana);
+        return turnos.stream()
+                .map(t -> new Molde(t.getColaborador(), t.getTienda(), t.getFecha().getDayOfWeek(), t.getHoraEntrada(), t.getHoraSalida()))
+                .toList();
+    }
+
+    private ResultadoProgramacionDTO programar(List<Molde> moldes, LocalDate inicioDestino, int semanas) {
+        if (semanas < 1 || semanas > SEMANAS_MAXIMAS) {
+            throw new IllegalArgumentException("El número de semanas debe estar entre 1 y " + SEMANAS_MAXIMAS);
+        }
+        LocalDate finDestino = inicioDestino.plusWeeks(semanas).minusDays(1);
+
+        // Turnos ya programados en el destino: los idénticos se omiten para que repetir la operación no duplique,
+        // y la agenda descarta los que se superpondrían con otro turno del colaborador
+        List<TurnoDTO> programados = turnoRepository.findDTOByFechaBetween(inicioDestino, finDestino);
+        Set<String> existentes = new HashSet<>();
+        for (TurnoDTO turno : programados) {
+            existentes.add(clave(turno.getColaboradorId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida()));
+        }
+        AgendaTurnos agenda = AgendaTurnos.desde(programados);
+
+        List<Turno> nuevos = new ArrayList<>();
+        int omitidosDeshabilitados = 0;
+        int omitidosExistentes = 0;
+        int omitidosSolapados = 0;
+        for (int semana = 0; semana < semanas; semana++) {
+            LocalDate lunes = inicioDestino.plusWeeks(semana);
+            for (Molde molde : moldes) {
+                Colaborador colaborador = molde.colaborador();
+                if (!colaborador.isHabilitado() || colaborador.getEmpresa() == null) {
+                    omitidosDeshabilitados++;
+                    continue;
+                }
+                LocalDate fecha = lunes.plusDays(molde.dia().getValue() - 1L);
+                if (!existentes.add(clave(colaborador.getId(), fecha, molde.horaEntrada(), molde.horaSalida()))) {
+                    omitidosExistentes++;
+                    continue;
+                }
+                if (agenda.reservar(null, colaborador.getId(), fecha, molde.horaEntrada(), molde.horaSalida()) != null) {
+                    omitidosSolapados++;
+                    continue;
+                }
+                Turno turno = new Turno();
+                turno.setColaborador(colaborador);
+                turno.setEmpresa(colaborador.getEmpresa());
+                turno.setTienda(molde.tienda());
+                turno.setFecha(fecha);
+                turno.setHoraEntrada(molde.horaEntrada());
+                turno.setHoraSalida(molde.horaSalida());
+                turno.setEsFeriado(feriadoService.isFeriado(fecha));
+                nuevos.add(turno);
+            }
+        }
+
+        if (!nuevos.isEmpty()) {
+            turnoRepository.saveAll(nuevos);
+            resumenHorasService.sumarTodos(nuevos);
+            // Un aviso por turno, como POST /batch; si una conexión acumula demasiados, se le pide recargar
+            nuevos.forEach(turno -> eventos.publishEvent(TurnoService.evento(EventoTurnoDTO.GUARDADO, turno)));
+        }
+        return new ResultadoProgramacionDTO(inicioDestino, finDestino, nuevos.size(), omitidosDeshabilitados, omitidosExistentes, omitidosSolapados);
+    }
+
+    private static LocalDate inicioSemana(LocalDate fecha) {
+        if (fecha == null) {
+            throw new IllegalArgumentException("La fecha es obligatoria");
+        }
+        return fecha.with(DayOfWeek.MONDAY);
+    }
+
+    private static String clave(Long colaboradorId, LocalDate fecha, LocalTime horaEntrada, LocalTime horaSalida) {
+        return colaboradorId + "|" + fecha + "|" + horaEntrada + "|" + horaSalida;
+    }
+
+    // Turno sin fecha concreta: día de la semana y horario de un colaborador en una tienda
+    private record Molde(Colaborador colaborador, Tienda tienda, DayOfWeek dia, LocalTime horaEntrada, LocalTime horaSalida) {
+    }
+}
@@ -1,14 +1,16 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.config.CacheConfig;
 import com.sportcenter.shift_manager.dto.PuestoDTO;
 import com.sportcenter.shift_manager.model.Puesto;
 import com.sportcenter.shift_manager.repository.PuestoRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.sportcenter.shift_manager.exception.ResourceNotFoundException;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class PuestoService {
@@ -20,6 +22,7 @@ public class PuestoService {
 
     // Crear un nuevo puesto
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUESTOS, allEntries = true)
     public PuestoDTO savePuesto(PuestoDTO puestoDTO) {
         // Validar duplicados por nombre
         puestoRepository.findByNombre(puestoDTO.getNombre())
@@ -36,10 +39,11 @@ public class PuestoService {
     }
 
     // Obtener todos los puestos
+    @Cacheable(cacheNames = CacheConfig.PUESTOS, key = "'todos'")
     public List<PuestoDTO> getAllPuestos() {
         return puestoRepository.findAll().stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // Obtener un puesto por ID
@@ -51,6 +55,7 @@ public class PuestoService {
 
     // Actualizar un puesto
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUESTOS, allEntries = true)
     public PuestoDTO updatePuesto(Long id, PuestoDTO puestoDTO) {
         Puesto puesto = puestoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Puesto con ID " + id + " no encontrado"));
@@ -71,6 +76,7 @@ public class PuestoService {
 
     // Eliminar un puesto
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PUESTOS, allEntries = true)
     public void deletePuesto(Long id) {
         Puesto puesto = puestoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Puesto con ID " + id + " no encontrado"));
@@ -0,0 +1,176 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.SelloRangoDTO;
+import com.sportcenter.shift_manager.model.CalculadoraHoras;
+import com.sportcenter.shift_manager.model.ResumenHorasMes;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ResumenHorasDiaRepository;
+import com.sportcenter.shift_manager.repository.ResumenHorasMesRepository;
+import com.sportcenter.shift_manager.repository.ResumenHorasSemanaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Mantiene los acumulados de horas por día, semana ISO y mes.
+// Se llama dentro de la transacción de TurnoService para que turnos y acumulados nunca diverjan.
+// Los turnos anteriores a las tablas de acumulados los cargó la migración V14, antes de arrancar la aplicación.
+@Service
+public class ResumenHorasService {
+    private final ResumenHorasDiaRepository diaRepository;
+    private final ResumenHorasSemanaRepository semanaRepository;
+    private final ResumenHorasMesRepository mesRepository;
+
+    public ResumenHorasService(ResumenHorasDiaRepository diaRepository,
+                               ResumenHorasSemanaRepository semanaRepository,
+                               ResumenHorasMesRepository mesRepository) {
+        this.diaRepository = diaRepository;
+        this.semanaRepository = semanaRepository;
+        this.mesRepository = mesRepository;
+    }
+
+    // Suma el turno a los acumulados
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sumar(Turno turno) {
+        aplicar(List.of(turno), 1);
+    }
+
+    // Suma varios turnos agrupando primero por día, semana y mes: una actualización por clave, no por turno
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sumarTodos(List<Turno> turnos) {
+        aplicar(turnos, 1);
+    }
+
+    // Resta el turno de los acumulados; llamar con los valores que tenía antes de modificarlo o eliminarlo
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restar(Turno turno) {
+        aplicar(List.of(turno), -1);
+    }
+
+    private void aplicar(List<Turno> turnos, int signo) {
+        Map<ClaveDia, Acumulado> porDia = new LinkedHashMap<>();
+        for (Turno turno : turnos) {
+            if (turno.getColaborador() == null || turno.getFecha() == null) {
+                continue;
+            }
+            int minutos = signo * CalculadoraHoras.minutosTrabajados(turno.getHoraEntrada(), turno.getHoraSalida());
+            porDia.computeIfAbsent(new ClaveDia(turno.getColaborador().getId(), turno.getFecha()), clave -> new Acumulado())
+                    .agregar(minutos, turno.isEsFeriado() ? minutos : 0, signo, turno.isEsFeriado() ? signo : 0);
+        }
+
+        Map<ClavePeriodo, Acumulado> porSemana = new LinkedHashMap<>();
+        Map<ClavePeriodo, Acumulado> porMes = new LinkedHashMap<>();
+        for (Map.Entry<ClaveDia, Acumulado> entrada : porDia.entrySet()) {
+            Long colaboradorId = entrada.getKey().colaboradorId();
+            LocalDate fecha = entrada.getKey().fecha();
+            Acumulado dia = entrada.getValue();
+            dia.diasFeriado = acumularDia(colaboradorId, fecha, dia);
+
+            porSemana.computeIfAbsent(new ClavePeriodo(colaboradorId, fecha.get(IsoFields.WEEK_BASED_YEAR), fecha.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)),
+                    clave -> new Acumulado()).sumar(dia);
+            porMes.computeIfAbsent(new ClavePeriodo(colaboradorId, fecha.getYear(), fecha.getMonthValue()),
+                    clave -> new Acumulado()).sumar(dia);
+        }
+
+        // Si la fila no existe se crea en cero y se repite el UPDATE. Con un INSERT directo, dos transacciones que
+        // escriben la primera vez la misma clave chocarían con uk_resumen_*; así la segunda espera a la primera y suma.
+        porSemana.forEach((clave, semana) -> {
+            if (semanaRepository.acumular(clave.colaboradorId(), clave.anio(), clave.periodo(), semana.minutos, semana.minutosFeriado, semana.turnos) == 0) {
+                semanaRepository.crearSiFalta(clave.colaboradorId(), clave.anio(), clave.periodo());
+                semanaRepository.acumular(clave.colaboradorId(), clave.anio(), clave.periodo(), semana.minutos, semana.minutosFeriado, semana.turnos);
+            }
+        });
+        porMes.forEach((clave, mes) -> {
+            if (mesRepository.acumular(clave.colaboradorId(), clave.anio(), clave.periodo(), mes.minutos, mes.minutosFeriado, mes.diasFeriado, mes.turnos) == 0) {
+                mesRepository.crearSiFalta(clave.colaboradorId(), clave.anio(), clave.periodo());
+                mesRepository.acumular(clave.colaboradorId(), clave.anio(), clave.periodo(), mes.minutos, mes.minutosFeriado, mes.diasFeriado, mes.turnos);
+            }
+        });
+    }
+
+    // Aplica el cambio al día y devuelve cuánto cambia el número de días feriados trabajados del mes (-1, 0 o 1)
+    private int acumularDia(Long colaboradorId, LocalDate fecha, Acumulado dia) {
+        if (diaRepository.acumular(colaboradorId, fecha, dia.minutos, dia.minutosFeriado, dia.turnos, dia.turnosFeriado) == 0) {
+            diaRepository.crearSiFalta(colaboradorId, fecha);
+            diaRepository.acumular(colaboradorId, fecha, dia.minutos, dia.minutosFeriado, dia.turnos, dia.turnosFeriado);
+        }
+        if (dia.turnosFeriado == 0) {
+            return 0;
+        }
+        Integer turnosFeriadoDelDia = diaRepository.findTurnosFeriado(colaboradorId, fecha);
+        if (turnosFeriadoDelDia == null) {
+            return 0;
+        }
+        // El día pasa de no tener turnos feriados a tenerlos, o al revés
+        if (dia.turnosFeriado > 0 && turnosFeriadoDelDia == dia.turnosFeriado) {
+            return 1;
+        }
+        if (dia.turnosFeriado < 0 && turnosFeriadoDelDia == 0) {
+            return -1;
+        }
+        return 0;
+    }
+
+    private record ClaveDia(Long colaboradorId, LocalDate fecha) {
+    }
+
+    // periodo es la semana ISO o el mes, según el mapa que la use
+    private record ClavePeriodo(Long colaboradorId, int anio, int periodo) {
+    }
+
+    private static final class Acumulado {
+        private int minutos;
+        private int minutosFeriado;
+        private int turnos;
+        private int turnosFeriado;
+        private int diasFeriado;
+
+        void agregar(int minutos, int minutosFeriado, int turnos, int turnosFeriado) {
+            this.minutos += minutos;
+            this.minutosFeriado += minutosFeriado;
+            this.turnos += turnos;
+            this.turnosFeriado += turnosFeriado;
+        }
+
+        void sumar(Acumulado otro) {
+            agregar(otro.minutos, otro.minutosFeriado, otro.turnos, otro.turnosFeriado);
+            diasFeriado += otro.diasFeriado;
+        }
+    }
+
+    // ---- Lecturas para los reportes ----
+    public List<MinutosTrabajadosDTO> minutosPorColaborador(LocalDate inicio, LocalDate fin) {
+        return diaRepository.sumMinutosPorColaborador(inicio, fin);
+    }
+
+    public List<MinutosTrabajadosDTO> minutosPorColaboradores(List<Long> colaboradores, LocalDate inicio, LocalDate fin) {
+        return diaRepository.sumMinutosPorColaboradores(colaboradores, inicio, fin);
+    }
+
+    public List<MinutosTrabajadosDTO> minutosFeriadoPorColaboradores(List<Long> colaboradores, LocalDate inicio, LocalDate fin) {
+        return diaRepository.sumMinutosFeriadosPorColaboradores(colaboradores, inicio, fin);
+    }
+
+    // Semana ISO (lunes a domingo) que contiene la fecha
+    public List<MinutosTrabajadosDTO> minutosSemanaIso(LocalDate fecha) {
+        return semanaRepository.findByAnioIsoAndSemanaIso(fecha.get(IsoFields.WEEK_BASED_YEAR), fecha.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR))
+                .stream()
+                .map(r -> new MinutosTrabajadosDTO(r.getColaboradorId(), (long) r.getMinutosTrabajados()))
+                .toList();
+    }
+
+    // Filas y escrituras acumuladas del rango: cambia con cualquier alta, edición o baja de turno en esas fechas
+    public SelloRangoDTO selloRango(LocalDate inicio, LocalDate fin) {
+        return diaRepository.sellarRango(inicio, fin);
+    }
+
+    public List<ResumenHorasMes> resumenesDelMes(List<Long> colaboradores, int mes, int anio) {
+        return mesRepository.findByColaboradorIdInAndAnioAndMes(colaboradores, anio, mes);
+    }
+}
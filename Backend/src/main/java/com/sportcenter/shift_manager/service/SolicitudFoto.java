@@ -0,0 +1,5 @@
+package com.sportcenter.shift_manager.service;
+
+// Trabajo para FotosColaboradorService. Sin contenido es solo la eliminación de urlAnterior.
+record SolicitudFoto(Long colaboradorId, String solicitud, byte[] contenido, String contentType, String urlAnterior) {
+}
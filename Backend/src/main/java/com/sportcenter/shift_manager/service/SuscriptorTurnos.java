@@ -0,0 +1,112 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.LoteEventosTurnoDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Una conexión SSE con su filtro y los eventos pendientes de enviar. Los pendientes se agrupan por turno
+// (gana el último) y están acotados: si el cliente no da abasto se descartan y se le pide recargar.
+class SuscriptorTurnos {
+    private final SseEmitter emisor;
+    private final Long tiendaId;
+    private final LocalDate lunes;
+    private final int limitePendientes;
+
+    private final Map<Long, EventoTurnoDTO> pendientes = new LinkedHashMap<>();
+    private boolean desbordado;
+    // Un solo envío en curso por conexión; mientras tanto los eventos se siguen agrupando
+    final AtomicBoolean enviando = new AtomicBoolean();
+    // System.nanoTime() al empezar el envío en curso (0 si no hay) y la tarea que lo hace, para el vigilante
+    volatile long inicioEnvio;
+    volatile Future<?> envio;
+    // Quitado de la difusión por un envío bloqueado: se cierra en cuanto ese envío termine
+    volatile boolean descartado;
+    private final AtomicBoolean cerrado = new AtomicBoolean();
+
+    SuscriptorTurnos(SseEmitter emisor, Long tiendaId, LocalDate semana, int limitePendientes) {
+        this.emisor = emisor;
+        this.tiendaId = tiendaId;
+        this.lunes = semana != null ? semana.with(DayOfWeek.MONDAY) : null;
+        this.limitePendientes = limitePendientes;
+    }
+
+    SseEmitter getEmisor() {
+        return emisor;
+    }
+
+    boolean envioVencido(Duration limite) {
+        long inicio = inicioEnvio;
+        return enviando.get() && inicio != 0 && System.nanoTime() - inicio > limite.toNanos();
+    }
+
+    // Cierre único, lo pida el envío que falló, el que terminó tras ser descartado o el vigilante
+    void cerrar(Throwable error) {
+        if (!cerrado.compareAndSet(false, true)) {
+            return;
+        }
+        if (error != null) {
+            emisor.completeWithError(error);
+        } else {
+            emisor.complete();
+        }
+    }
+
+    boolean interesa(EventoTurnoDTO evento) {
+        if (tiendaId != null && !tiendaId.equals(evento.getTiendaId())) {
+            return false;
+        }
+        return lunes == null || (!evento.getFecha().isBefore(lunes) && !evento.getFecha().isAfter(lunes.plusDays(6)));
+    }
+
+    // Los bloques synchronized solo tocan memoria (el envío va afuera): con hilos virtuales no fijan el hilo al portador
+    synchronized void agregar(EventoTurnoDTO evento) {
+        if (desbordado) {
+            return;
+        }
+        pendientes.remove(evento.getTurnoId());
+        pendientes.put(evento.getTurnoId(), evento);
+        if (pendientes.size() > limitePendientes) {
+            pendientes.clear();
+            desbordado = true;
+        }
+    }
+
+    // null si no hay nada que enviar
+    synchronized LoteEventosTurnoDTO tomarLote() {
+        if (!desbordado && pendientes.isEmpty()) {
+            return null;
+        }
+        LoteEventosTurnoDTO lote = new LoteEventosTurnoDTO(new ArrayList<>(pendientes.values()), desbordado);
+        pendientes.clear();
+        desbordado = false;
+        return lote;
+    }
+
+    // Un lote que no se pudo enviar vuelve a los pendientes; los eventos llegados después ganan
+    synchronized void devolver(LoteEventosTurnoDTO lote) {
+        if (desbordado) {
+            // Ya se le va a pedir recargar: los eventos del lote sobran
+            return;
+        }
+        Map<Long, EventoTurnoDTO> posteriores = new LinkedHashMap<>(pendientes);
+        pendientes.clear();
+        lote.getEventos().forEach(evento -> pendientes.put(evento.getTurnoId(), evento));
+        posteriores.forEach((turnoId, evento) -> {
+            pendientes.remove(turnoId);
+            pendientes.put(turnoId, evento);
+        });
+        if (lote.isRecargar() || pendientes.size() > limitePendientes) {
+            pendientes.clear();
+            desbordado = true;
+        }
+    }
+}
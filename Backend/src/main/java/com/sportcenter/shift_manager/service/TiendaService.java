@@ -1,24 +1,30 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.config.CacheConfig;
 import com.sportcenter.shift_manager.exception.ResourceNotFoundException;
 import com.sportcenter.shift_manager.model.Tienda;
 import com.sportcenter.shift_manager.repository.TiendaRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.sportcenter.shift_manager.dto.TiendaDTO;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 public class TiendaService {
     private final TiendaRepository tiendaRepository;
+    private final VersionMaestros versionMaestros;
 
-    public TiendaService(TiendaRepository tiendaRepository) {
+    public TiendaService(TiendaRepository tiendaRepository, VersionMaestros versionMaestros) {
         this.tiendaRepository = tiendaRepository;
+        this.versionMaestros = versionMaestros;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TIENDAS, allEntries = true)
     public TiendaDTO saveTienda(TiendaDTO tiendaDTO) {
         // Opcional: Validar duplicados si usas findByNombre
         tiendaRepository.findByNombre(tiendaDTO.getNombre())
@@ -33,10 +39,18 @@ public class TiendaService {
         return convertToDTO(savedTienda);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TIENDAS, key = "'todas'")
     public List<TiendaDTO> getAllTiendas() {
         return tiendaRepository.findAll().stream()
                 .map(this::convertToDTO)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    // Búsqueda cacheada para el alta/edición de turnos; la entidad no tiene relaciones,
+    // así que la instancia desacoplada sirve como referencia de la FK.
+    @Cacheable(cacheNames = CacheConfig.TIENDAS, key = "#id", unless = "#result == null")
+    public Optional<Tienda> buscarTienda(Long id) {
+        return tiendaRepository.findById(id);
     }
 
     public TiendaDTO getTiendaById(Long id) {
@@ -46,6 +60,7 @@ public class TiendaService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TIENDAS, allEntries = true)
     public TiendaDTO updateTienda(Long id, TiendaDTO tiendaDTO) {
         Tienda tienda = tiendaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tienda con ID " + id + " no encontrada"));
@@ -60,14 +75,17 @@ public class TiendaService {
         tienda.setNombre(tiendaDTO.getNombre());
         tienda.setDireccion(tiendaDTO.getDireccion());
         Tienda updatedTienda = tiendaRepository.save(tienda);
+        versionMaestros.incrementar();
         return convertToDTO(updatedTienda);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TIENDAS, allEntries = true)
     public void deleteTienda(Long id) {
         Tienda tienda = tiendaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tienda con ID " + id + " no encontrada"));
         tiendaRepository.delete(tienda);
+        versionMaestros.incrementar();
     }
 
     private TiendaDTO convertToDTO(Tienda tienda) {
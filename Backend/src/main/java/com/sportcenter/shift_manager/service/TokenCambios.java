@@ -0,0 +1,29 @@
+package com.sportcenter.shift_manager.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Punto de partida opaco del feed de cambios: el instante desde el que el cliente necesita novedades,
+// en base64url. También se acepta un instante ISO-8601 (p. ej. 2025-03-01T10:00:00Z).
+record TokenCambios(Instant instante) {
+
+    String codificar() {
+        String valor = Long.toString(instante.toEpochMilli());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TokenCambios decodificar(String token) {
+        try {
+            // ":" nunca aparece en base64url
+            if (token.contains(":")) {
+                return new TokenCambios(Instant.parse(token));
+            }
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new TokenCambios(Instant.ofEpochMilli(Long.parseLong(valor)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Token de cambios inválido: " + token);
+        }
+    }
+}
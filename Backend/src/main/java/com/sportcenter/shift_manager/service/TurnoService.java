@@ -1,77 +1,198 @@
 package com.sportcenter.shift_manager.service;
 
+import com.sportcenter.shift_manager.dto.ColaboradorNombreDTO;
+import com.sportcenter.shift_manager.dto.ConflictoTurnoDTO;
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.PaginaTurnosDTO;
+import com.sportcenter.shift_manager.dto.ResultadoLoteTurnosDTO;
+import com.sportcenter.shift_manager.dto.ResultadoTurnoLoteDTO;
 import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
+import com.sportcenter.shift_manager.dto.SemanaDelMesDTO;
+import com.sportcenter.shift_manager.dto.SelloRangoDTO;
 import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.exception.ConflictoTurnoException;
+import com.sportcenter.shift_manager.exception.ConflictoVersionException;
+import com.sportcenter.shift_manager.model.CalculadoraHoras;
 import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.ResumenHorasMes;
 import com.sportcenter.shift_manager.model.Tienda;
 import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.model.TurnoEliminado;
 import com.sportcenter.shift_manager.repository.ColaboradorRepository;
 import com.sportcenter.shift_manager.repository.TiendaRepository;
+import com.sportcenter.shift_manager.repository.TurnoEliminadoRepository;
 import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class TurnoService {
 
+    static final int LIMITE_PAGINA_POR_DEFECTO = 100;
+    static final int LIMITE_PAGINA_MAXIMO = 500;
+    static final int TAMANO_MAXIMO_LOTE = 1000;
+
     // Atributos privados
     private final TurnoRepository turnoRepository;
+    private final TurnoEliminadoRepository turnoEliminadoRepository;
     private final ColaboradorRepository colaboradorRepository;
     private final TiendaRepository tiendaRepository;
+    private final TiendaService tiendaService;
     private final FeriadoService feriadoService;
+    private final ResumenHorasService resumenHorasService;
+    private final ApplicationEventPublisher eventos;
 
     // Constructor
-    public TurnoService(TurnoRepository turnoRepository, ColaboradorRepository colaboradorRepository, TiendaRepository tiendaRepository, FeriadoService feriadoService) {
+    public TurnoService(TurnoRepository turnoRepository, TurnoEliminadoRepository turnoEliminadoRepository, ColaboradorRepository colaboradorRepository, TiendaRepository tiendaRepository, TiendaService tiendaService, FeriadoService feriadoService, ResumenHorasService resumenHorasService, ApplicationEventPublisher eventos) {
         this.turnoRepository = turnoRepository;
+        this.turnoEliminadoRepository = turnoEliminadoRepository;
         this.colaboradorRepository = colaboradorRepository;
         this.tiendaRepository = tiendaRepository;
+        this.tiendaService = tiendaService;
         this.feriadoService = feriadoService;
+        this.resumenHorasService = resumenHorasService;
+        this.eventos = eventos;
     }
 
     // Métodos públicos: CRUD de turnos
-    @Transactional
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
     public TurnoDTO saveTurno(Turno turno) {
-        if (turno.getColaborador() == null || turno.getColaborador().getId() == null) {
-            throw new IllegalArgumentException("El colaborador debe estar especificado en el turno");
-        }
-        if (turno.getTienda() == null || turno.getTienda().getId() == null) {
-            throw new IllegalArgumentException("La tienda debe estar especificada en el turno");
-        }
-        if (turno.getFecha() == null || turno.getHoraEntrada() == null || turno.getHoraSalida() == null) {
-            throw new IllegalArgumentException("Fecha y horas son obligatorias");
-        }
-        if (!turno.getHoraSalida().isAfter(turno.getHoraEntrada())) {
-            throw new IllegalArgumentException("La hora de salida debe ser posterior a la hora de entrada");
-        }
+        validarDatosTurno(turno);
 
         Colaborador colaborador = colaboradorRepository.findById(turno.getColaborador().getId())
                 .orElseThrow(() -> new IllegalArgumentException("El colaborador con ID " + turno.getColaborador().getId() + " no existe"));
-        Tienda tienda = tiendaRepository.findById(turno.getTienda().getId())
+        // Tienda cacheada: evita un SELECT por cada alta de turno
+        Tienda tienda = tiendaService.buscarTienda(turno.getTienda().getId())
                 .orElseThrow(() -> new IllegalArgumentException("La tienda con ID " + turno.getTienda().getId() + " no existe"));
 
-        if (colaborador.getEmpresa() == null) {
-            throw new IllegalArgumentException("El colaborador no tiene una empresa asignada");
-        }
-
-        turno.setColaborador(colaborador);
-        turno.setEmpresa(colaborador.getEmpresa());
-        turno.setTienda(tienda);
-        turno.setEsFeriado(feriadoService.isFeriado(turno.getFecha()));
+        prepararTurno(turno, colaborador, tienda);
+        verificarSinSolapamiento(turno, null);
         Turno savedTurno = turnoRepository.save(turno);
+        resumenHorasService.sumar(savedTurno);
+        publicarEvento(EventoTurnoDTO.GUARDADO, savedTurno);
         return convertToDTO(savedTurno);
     }
 
+    // Crea varios turnos en una transacción. Colaboradores y tiendas se cargan en dos consultas para todo el lote,
+    // los INSERT salen en lotes JDBC (ids de secuencia) y los acumulados se actualizan una vez por día/semana/mes.
+    // Sin permitirParcial, un turno inválido hace que no se guarde ninguno; con él, se guardan los válidos.
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
+    public ResultadoLoteTurnosDTO saveTurnos(List<Turno> turnos, boolean permitirParcial) {
+        if (turnos == null || turnos.isEmpty()) {
+            throw new IllegalArgumentException("El lote no contiene turnos");
+        }
+        if (turnos.size() > TAMANO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException("El lote no puede superar " + TAMANO_MAXIMO_LOTE + " turnos");
+        }
+
+        Set<Long> colaboradoresIds = new HashSet<>();
+        Set<Long> tiendasIds = new HashSet<>();
+        for (Turno turno : turnos) {
+            // Los elementos nulos del lote se rechazan uno a uno en validarDatosTurno
+            if (turno == null) {
+                continue;
+            }
+            if (turno.getColaborador() != null && turno.getColaborador().getId() != null) {
+                colaboradoresIds.add(turno.getColaborador().getId());
+            }
+            if (turno.getTienda() != null && turno.getTienda().getId() != null) {
+                tiendasIds.add(turno.getTienda().getId());
+            }
+        }
+        Map<Long, Colaborador> colaboradores = colaboradorRepository.findByIdIn(colaboradoresIds).stream()
+                .collect(Collectors.toMap(Colaborador::getId, colaborador -> colaborador));
+        Map<Long, Tienda> tiendas = tiendaRepository.findAllById(tiendasIds).stream()
+                .collect(Collectors.toMap(Tienda::getId, tienda -> tienda));
+
+        // Turnos ya guardados de esos colaboradores en el rango de fechas del lote, para detectar solapamientos
+        // contra la base y entre los propios turnos del lote
+        AgendaTurnos agenda = agendaDelLote(turnos, colaboradoresIds);
+
+        String[] errores = new String[turnos.size()];
+        List<Turno> validos = new ArrayList<>();
+        for (int i = 0; i < turnos.size(); i++) {
+            Turno turno = turnos.get(i);
+            try {
+                validarDatosTurno(turno);
+                Colaborador colaborador = colaboradores.get(turno.getColaborador().getId());
+                if (colaborador == null) {
+                    throw new IllegalArgumentException("El colaborador con ID " + turno.getColaborador().getId() + " no existe");
+                }
+                Tienda tienda = tiendas.get(turno.getTienda().getId());
+                if (tienda == null) {
+                    throw new IllegalArgumentException("La tienda con ID " + turno.getTienda().getId() + " no existe");
+                }
+                prepararTurno(turno, colaborador, tienda);
+                AgendaTurnos.Intervalo conflicto = agenda.reservar(null, colaborador.getId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida());
+                if (conflicto != null) {
+                    throw new ConflictoTurnoException(mensajeSolapamiento(turno, conflicto));
+                }
+                validos.add(turno);
+            } catch (IllegalArgumentException | ConflictoTurnoException e) {
+                errores[i] = e.getMessage();
+            }
+        }
+
+        int fallidos = turnos.size() - validos.size();
+        boolean confirmado = fallidos == 0 || permitirParcial;
+        if (confirmado && !validos.isEmpty()) {
+            turnoRepository.saveAll(validos);
+            resumenHorasService.sumarTodos(validos);
+            validos.forEach(turno -> publicarEvento(EventoTurnoDTO.GUARDADO, turno));
+        }
+
+        List<ResultadoTurnoLoteDTO> resultados = new ArrayList<>(turnos.size());
+        for (int i = 0; i < turnos.size(); i++) {
+            if (errores[i] != null) {
+                resultados.add(new ResultadoTurnoLoteDTO(i, ResultadoTurnoLoteDTO.ERROR, null, errores[i]));
+            } else if (confirmado) {
+                resultados.add(new ResultadoTurnoLoteDTO(i, ResultadoTurnoLoteDTO.CREADO, convertToDTO(turnos.get(i)), null));
+            } else {
+                resultados.add(new ResultadoTurnoLoteDTO(i, ResultadoTurnoLoteDTO.OMITIDO, null, null));
+            }
+        }
+        return new ResultadoLoteTurnosDTO(confirmado, confirmado ? validos.size() : 0, fallidos, resultados);
+    }
+
     // Métodos públicos: Gestión de turnos por colaborador
-    public List<TurnoDTO> getTurnosByColaboradorId(Long colaboradorId) {
-        return turnoRepository.findByColaborador_Id(colaboradorId).stream()
-                .map(this::convertToDTO)
-                .toList();
+    // Historial paginado por cursor (fecha, id) descendente, del turno más reciente al más antiguo.
+    // Se pide un registro de más para saber si existe una página siguiente sin contar el total.
+    public PaginaTurnosDTO getTurnosByColaboradorId(Long colaboradorId, Integer limite, String cursor) {
+        int tamano = normalizarLimite(limite);
+        Pageable pagina = PageRequest.of(0, tamano + 1);
+        List<TurnoDTO> turnos;
+        if (cursor == null || cursor.isBlank()) {
+            turnos = turnoRepository.findDTOPaginaByColaboradorId(colaboradorId, pagina);
+        } else {
+            CursorTurno desde = CursorTurno.decodificar(cursor);
+            turnos = turnoRepository.findDTOPaginaByColaboradorIdDespuesDe(colaboradorId, desde.fecha(), desde.id(), pagina);
+        }
+
+        String siguienteCursor = null;
+        if (turnos.size() > tamano) {
+            turnos = new ArrayList<>(turnos.subList(0, tamano));
+            TurnoDTO ultimo = turnos.get(tamano - 1);
+            siguienteCursor = new CursorTurno(ultimo.getFecha(), ultimo.getId()).codificar();
+        }
+        return new PaginaTurnosDTO(completarDTOs(turnos), siguienteCursor);
+    }
+
+    private int normalizarLimite(Integer limite) {
+        if (limite == null) {
+            return LIMITE_PAGINA_POR_DEFECTO;
+        }
+        if (limite < 1 || limite > LIMITE_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + LIMITE_PAGINA_MAXIMO);
+        }
+        return limite;
     }
 
     // Métodos públicos: Gestión de turnos por semana
@@ -80,93 +201,168 @@ public class TurnoService {
             LocalDate inicioSemana = getInicioSemana(fecha);
             LocalDate finSemana = inicioSemana.plusDays(6);
 
-            List<Turno> turnos = turnoRepository.findByFechaBetween(inicioSemana, finSemana);
+            List<TurnoDTO> turnos = completarDTOs(turnoRepository.findDTOByFechaBetween(inicioSemana, finSemana));
 
-            // Mapa para almacenar la suma de horas trabajadas por colaborador
-            Map<Long, Double> horasSemanalesPorColaborador = new HashMap<>();
+            // Horas por colaborador desde los acumulados de la semana ISO
+            Map<Long, Double> horasSemanalesPorColaborador = horasPorColaborador(
+                    resumenHorasService.minutosSemanaIso(inicioSemana));
 
-            for (Turno turno : turnos) {
-                double horasTrabajadas = calcularHorasTrabajadas(turno);
-                horasSemanalesPorColaborador.put(
-                        turno.getColaborador().getId(),
-                        horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0) + horasTrabajadas
-                );
+            for (TurnoDTO turno : turnos) {
+                turno.setHorasTotalesSemana(horasSemanalesPorColaborador.getOrDefault(turno.getColaboradorId(), 0.0));
             }
-
-            return turnos.stream().map(turno -> {
-                TurnoDTO dto = convertToDTO(turno);
-                dto.setHorasTotalesSemana(horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0));
-                return dto;
-            }).collect(Collectors.toList());
+            return turnos;
 
         } catch (Exception e) {
             throw new RuntimeException("Error al procesar la semana: " + fecha, e);
         }
     }
 
-    private double calcularHorasTrabajadas(Turno turno) {
-        if (turno.getHoraEntrada() != null && turno.getHoraSalida() != null) {
-            long minutosTrabajados = java.time.Duration.between(turno.getHoraEntrada(), turno.getHoraSalida()).toMinutes();
-
-            // Restar 45 minutos si el turno abarca la hora del almuerzo (12:00 - 13:00)
-            if (turno.getHoraEntrada().isBefore(LocalTime.of(12, 1)) && turno.getHoraSalida().isAfter(LocalTime.of(14, 0))) {
-                minutosTrabajados -= 45;
-            }
-
-            return minutosTrabajados / 60.0; // Convertir minutos a horas
-        }
-        return 0;
-    }
-
     // Obtener turnos por mes para un colaborador específico
     public List<TurnoDTO> getTurnosMensualesPorColaborador(Long colaboradorId, int mes, int anio) {
         LocalDate inicioMes = LocalDate.of(anio, mes, 1);
         LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
-        return turnoRepository.findByColaborador_IdAndFechaBetween(colaboradorId, inicioMes, finMes).stream()
-                .map(this::convertToDTO)
-                .toList();
+        return completarDTOs(turnoRepository.findDTOByColaboradorIdAndFechaBetween(colaboradorId, inicioMes, finMes));
     }
 
     // Obtener turnos por mes para todos los colaboradores
     public List<TurnoDTO> getTurnosMensuales(int mes, int anio) {
         LocalDate inicioMes = LocalDate.of(anio, mes, 1);
         LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
-        return turnoRepository.findByFechaBetween(inicioMes, finMes).stream()
-                .map(this::convertToDTO)
-                .toList();
+        return completarDTOs(turnoRepository.findDTOByFechaBetween(inicioMes, finMes));
+    }
+
+    // ETag de getTurnosMensuales: se calcula sin cargar ningún turno
+    public String getEtagMensual(int mes, int anio) {
+        LocalDate inicioMes = LocalDate.of(anio, mes, 1);
+        return etagRango(inicioMes, inicioMes.withDayOfMonth(inicioMes.lengthOfMonth()));
+    }
+
+    // Revisa la programación completa del mes y devuelve los turnos que se superponen con otro anterior del mismo colaborador
+    public List<ConflictoTurnoDTO> getConflictosDelMes(int mes, int anio) {
+        LocalDate inicioMes = LocalDate.of(anio, mes, 1);
+        LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
+
+        AgendaTurnos agenda = new AgendaTurnos();
+        List<ConflictoTurnoDTO> conflictos = new ArrayList<>();
+        for (TurnoDTO turno : turnoRepository.findDTOByFechaBetween(inicioMes, finMes)) {
+            AgendaTurnos.Intervalo conflicto = agenda.conflicto(turno.getColaboradorId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida());
+            if (conflicto != null) {
+                conflictos.add(new ConflictoTurnoDTO(turno, conflicto.turnoId()));
+            }
+            agenda.cargar(turno.getId(), turno.getColaboradorId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida());
+        }
+        completarDTOs(conflictos.stream().map(ConflictoTurnoDTO::getTurno).toList());
+        return conflictos;
     }
 
     // Métodos privados
+    private void validarDatosTurno(Turno turno) {
+        if (turno == null) {
+            throw new IllegalArgumentException("El turno no puede estar vacío");
+        }
+        if (turno.getColaborador() == null || turno.getColaborador().getId() == null) {
+            throw new IllegalArgumentException("El colaborador debe estar especificado en el turno");
+        }
+        if (turno.getTienda() == null || turno.getTienda().getId() == null) {
+            throw new IllegalArgumentException("La tienda debe estar especificada en el turno");
+        }
+        if (turno.getFecha() == null || turno.getHoraEntrada() == null || turno.getHoraSalida() == null) {
+            throw new IllegalArgumentException("Fecha y horas son obligatorias");
+        }
+        if (!turno.getHoraSalida().isAfter(turno.getHoraEntrada())) {
+            throw new IllegalArgumentException("La hora de salida debe ser posterior a la hora de entrada");
+        }
+    }
+
+    // Asigna colaborador, empresa, tienda y marca de feriado a un turno nuevo
+    private void prepararTurno(Turno turno, Colaborador colaborador, Tienda tienda) {
+        if (colaborador.getEmpresa() == null) {
+            throw new IllegalArgumentException("El colaborador no tiene una empresa asignada");
+        }
+        // Un alta nunca trae versión: con versión, Spring Data lo trataría como existente y haría merge
+        turno.setVersion(null);
+        turno.setColaborador(colaborador);
+        turno.setEmpresa(colaborador.getEmpresa());
+        turno.setTienda(tienda);
+        turno.setEsFeriado(feriadoService.isFeriado(turno.getFecha()));
+    }
+
+    // Compara contra los turnos del colaborador en ese día (idx_turno_colaborador_fecha); excluirId es el turno que se edita
+    private void verificarSinSolapamiento(Turno turno, Long excluirId) {
+        List<TurnoDTO> delDia = turnoRepository.findDTOByColaboradorIdAndFechaBetween(turno.getColaborador().getId(), turno.getFecha(), turno.getFecha());
+        if (excluirId != null) {
+            delDia = delDia.stream().filter(t -> !excluirId.equals(t.getId())).toList();
+        }
+        AgendaTurnos.Intervalo conflicto = AgendaTurnos.desde(delDia)
+                .conflicto(turno.getColaborador().getId(), turno.getFecha(), turno.getHoraEntrada(), turno.getHoraSalida());
+        if (conflicto != null) {
+            throw new ConflictoTurnoException(mensajeSolapamiento(turno, conflicto));
+        }
+    }
+
+    private AgendaTurnos agendaDelLote(List<Turno> turnos, Set<Long> colaboradoresIds) {
+        LocalDate desde = null;
+        LocalDate hasta = null;
+        for (Turno turno : turnos) {
+            LocalDate fecha = turno != null ? turno.getFecha() : null;
+            if (fecha != null) {
+                desde = desde == null || fecha.isBefore(desde) ? fecha : desde;
+                hasta = hasta == null || fecha.isAfter(hasta) ? fecha : hasta;
+            }
+        }
+        if (desde == null || colaboradoresIds.isEmpty()) {
+            return new AgendaTurnos();
+        }
+        return AgendaTurnos.desde(turnoRepository.findDTOByColaboradorIdInAndFechaBetween(new ArrayList<>(colaboradoresIds), desde, hasta));
+    }
+
+    private String mensajeSolapamiento(Turno turno, AgendaTurnos.Intervalo conflicto) {
+        String otro = conflicto.turnoId() != null ? "el turno " + conflicto.turnoId() : "otro turno del mismo lote";
+        return "El colaborador ya tiene " + otro + " de " + conflicto.horaEntrada() + " a " + conflicto.horaSalida()
+                + " el " + turno.getFecha() + ", que se superpone con " + turno.getHoraEntrada() + " - " + turno.getHoraSalida();
+    }
+
     private LocalDate getInicioSemana(String fecha) {
         LocalDate parsedDate = LocalDate.parse(fecha);
         return parsedDate.with(java.time.DayOfWeek.MONDAY);
     }
 
-    @Transactional
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
     public TurnoDTO updateTurno(Long id, Turno updatedTurno) {
         return turnoRepository.findById(id).map(turno -> {
-            if (updatedTurno.getColaborador() == null || updatedTurno.getColaborador().getId() == null) {
-                throw new IllegalArgumentException("El colaborador debe estar especificado en el turno");
-            }
-            if (updatedTurno.getTienda() == null || updatedTurno.getTienda().getId() == null) {
-                throw new IllegalArgumentException("La tienda debe estar especificada en el turno");
-            }
-            if (updatedTurno.getFecha() == null || updatedTurno.getHoraEntrada() == null || updatedTurno.getHoraSalida() == null) {
-                throw new IllegalArgumentException("Fecha y horas son obligatorias");
-            }
-            if (!updatedTurno.getHoraSalida().isAfter(updatedTurno.getHoraEntrada())) {
-                throw new IllegalArgumentException("La hora de salida debe ser posterior a la hora de entrada");
+            // Sin versión (clientes antiguos) el último en guardar gana, como antes
+            if (updatedTurno.getVersion() != null && !updatedTurno.getVersion().equals(turno.getVersion())) {
+                throw new ConflictoVersionException("El turno fue modificado por otro usuario. Revise los datos actuales antes de guardar.", convertToDTO(turno));
             }
+            validarDatosTurno(updatedTurno);
 
             Colaborador colaborador = colaboradorRepository.findById(updatedTurno.getColaborador().getId())
                     .orElseThrow(() -> new IllegalArgumentException("Colaborador con ID " + updatedTurno.getColaborador().getId() + " no existe"));
-            Tienda tienda = tiendaRepository.findById(updatedTurno.getTienda().getId())
+            Tienda tienda = tiendaService.buscarTienda(updatedTurno.getTienda().getId())
                     .orElseThrow(() -> new IllegalArgumentException("Tienda con ID " + updatedTurno.getTienda().getId() + " no existe"));
 
             if (colaborador.getEmpresa() == null) {
                 throw new IllegalArgumentException("El colaborador no tiene una empresa asignada");
             }
 
+            Turno propuesto = new Turno();
+            propuesto.setColaborador(colaborador);
+            propuesto.setFecha(updatedTurno.getFecha());
+            propuesto.setHoraEntrada(updatedTurno.getHoraEntrada());
+            propuesto.setHoraSalida(updatedTurno.getHoraSalida());
+            verificarSinSolapamiento(propuesto, id);
+
+            // Quitar los valores anteriores de los acumulados antes de modificar el turno
+            resumenHorasService.restar(turno);
+            // Si cambia de día, para el feed de cambios el turno desaparece de su fecha anterior
+            if (!turno.getFecha().equals(updatedTurno.getFecha())) {
+                registrarEliminacion(turno);
+            }
+            // Quien mira el día o la tienda anterior tiene que enterarse de que el turno se fue
+            if (!turno.getFecha().equals(updatedTurno.getFecha()) || !turno.getTienda().getId().equals(tienda.getId())) {
+                publicarEvento(EventoTurnoDTO.ELIMINADO, turno);
+            }
+
             turno.setColaborador(colaborador);
             turno.setFecha(updatedTurno.getFecha());
             turno.setHoraEntrada(updatedTurno.getHoraEntrada());
@@ -174,22 +370,41 @@ public class TurnoService {
             turno.setEmpresa(colaborador.getEmpresa());
             turno.setTienda(tienda);
             turno.setEsFeriado(feriadoService.isFeriado(updatedTurno.getFecha()));
-            Turno updated = turnoRepository.save(turno);
+            // flush para que la versión y fechaActualizacion de la respuesta ya sean las nuevas
+            Turno updated = turnoRepository.saveAndFlush(turno);
+            resumenHorasService.sumar(updated);
+            publicarEvento(EventoTurnoDTO.GUARDADO, updated);
             return convertToDTO(updated);
         }).orElseThrow(() -> new IllegalArgumentException("Turno con ID " + id + " no encontrado"));
     }
 
-    @Transactional
+    @Transactional(timeout = CambiosTurnosService.SEGUNDOS_MAXIMOS_ESCRITURA)
     public void deleteTurno(Long id) {
         Turno turno = turnoRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Turno con ID " + id + " no encontrado"));
+        resumenHorasService.restar(turno);
         turnoRepository.delete(turno);
+        registrarEliminacion(turno);
+        publicarEvento(EventoTurnoDTO.ELIMINADO, turno);
+    }
+
+    // Lápida para /api/turnos/cambios, en la misma transacción que la baja
+    private void registrarEliminacion(Turno turno) {
+        turnoEliminadoRepository.save(new TurnoEliminado(null, turno.getId(), turno.getColaborador().getId(), turno.getFecha(), null));
+    }
+
+    // Se entrega a DifusionTurnosService recién al confirmar la transacción
+    private void publicarEvento(String tipo, Turno turno) {
+        eventos.publishEvent(evento(tipo, turno));
+    }
+
+    // También lo usa ProgramacionService: toda escritura de turnos avisa al canal en vivo
+    static EventoTurnoDTO evento(String tipo, Turno turno) {
+        return new EventoTurnoDTO(tipo, turno.getId(), turno.getColaborador().getId(), turno.getTienda().getId(), turno.getFecha());
     }
 
     public TurnoDTO convertToDTO(Turno turno) {
-        boolean tomoAlmuerzo = turno.getHoraEntrada() != null && turno.getHoraSalida() != null &&
-                turno.getHoraEntrada().isBefore(LocalTime.of(12, 1)) &&
-                turno.getHoraSalida().isAfter(LocalTime.of(14, 0));
+        boolean tomoAlmuerzo = CalculadoraHoras.tomoAlmuerzo(turno.getHoraEntrada(), turno.getHoraSalida());
 
         boolean esFeriado = feriadoService.isFeriado(turno.getFecha());
 
@@ -208,109 +423,86 @@ public class TurnoService {
                 turno.getHorasTrabajadas(),
                 tomoAlmuerzo,
                 0.0, // horasTotalesSemana inicializado en 0
-                esFeriado
+                esFeriado,
+                turno.getVersion(),
+                turno.getFechaActualizacion()
         );
     }
 
+    static Map<Long, Double> horasPorColaborador(List<MinutosTrabajadosDTO> minutosPorColaborador) {
+        Map<Long, Double> horas = new HashMap<>(minutosPorColaborador.size() * 2);
+        for (MinutosTrabajadosDTO fila : minutosPorColaborador) {
+            horas.put(fila.getColaboradorId(), fila.getMinutos() != null ? CalculadoraHoras.aHoras(fila.getMinutos()) : 0.0);
+        }
+        return horas;
+    }
+
+    // Completa el indicador de feriado de los DTO proyectados directamente desde la base de datos
+    private List<TurnoDTO> completarDTOs(List<TurnoDTO> turnos) {
+        for (TurnoDTO dto : turnos) {
+            dto.setEsFeriado(feriadoService.isFeriado(dto.getFecha()));
+        }
+        return turnos;
+    }
+
     // ---- AGREGADOS PARA LA OPTIMIZACIÓN --------
 
     public List<List<String>> calcularSemanasDelMes(int mes, int anio) {
-        List<List<String>> semanas = new ArrayList<>();
-        List<String> semanaActual = new ArrayList<>();
+        return CalendarioSemanas.semanasDelMes(mes, anio);
+    }
+
+    // Estructura de semanas más las horas por colaborador de cada semana, con una sola consulta para todo el mes
+    public List<SemanaDelMesDTO> calcularSemanasDelMesConHoras(int mes, int anio) {
+        List<List<String>> semanas = CalendarioSemanas.semanasDelMes(mes, anio);
         LocalDate inicioMes = LocalDate.of(anio, mes, 1);
         LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
-        LocalDate diaActual = inicioMes;
-
-        // 1️⃣ PRIMERA SEMANA (INCOMPLETA, si el mes no inicia en Lunes)
-        while (diaActual.getDayOfWeek() != DayOfWeek.MONDAY && !diaActual.isAfter(finMes)) {
-            semanaActual.add(diaActual.toString());
-            diaActual = diaActual.plusDays(1);
-        }
 
-        // Si hay días en la primera semana, la agregamos antes de avanzar a semanas regulares
-        if (!semanaActual.isEmpty()) {
-            semanas.add(new ArrayList<>(semanaActual));
-            semanaActual.clear();
+        List<Map<Long, Double>> horasPorSemana = new ArrayList<>(semanas.size());
+        for (int i = 0; i < semanas.size(); i++) {
+            horasPorSemana.add(new HashMap<>());
         }
-
-        // 2️⃣ SEMANAS REGULARES (Lunes a Domingo)
-        while (!diaActual.isAfter(finMes)) {
-            for (int i = 0; i < 7 && !diaActual.isAfter(finMes); i++) {
-                semanaActual.add(diaActual.toString());
-                diaActual = diaActual.plusDays(1);
-            }
-            semanas.add(new ArrayList<>(semanaActual));
-            semanaActual.clear();
+        for (TurnoDTO turno : completarDTOs(turnoRepository.findDTOByFechaBetween(inicioMes, finMes))) {
+            Map<Long, Double> horasSemana = horasPorSemana.get(CalendarioSemanas.indiceSemana(turno.getFecha()));
+            horasSemana.merge(turno.getColaboradorId(), turno.getHorasTrabajadas(), Double::sum);
         }
 
-        if (!semanaActual.isEmpty()) {
-            semanas.add(new ArrayList<>(semanaActual));
-        }
-
-        // Calcular las horas trabajadas por semana
-        for (List<String> semana : semanas) {
-            if (!semana.isEmpty()) {
-                LocalDate inicioSemana = LocalDate.parse(semana.get(0));
-                LocalDate finSemana = LocalDate.parse(semana.get(semana.size() - 1));
-                List<Turno> turnos = turnoRepository.findByFechaBetween(inicioSemana, finSemana);
-                Map<Long, Double> horasSemanalesPorColaborador = new HashMap<>();
-
-                for (Turno turno : turnos) {
-                    double horasTrabajadas = calcularHorasTrabajadas(turno);
-                    horasSemanalesPorColaborador.put(
-                            turno.getColaborador().getId(),
-                            horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0) + horasTrabajadas
-                    );
-                }
-
-                // Asignar las horas totales a cada turno en la semana
-                for (Turno turno : turnos) {
-                    turno.setHorasTrabajadas(horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0));
-                }
-            }
+        List<SemanaDelMesDTO> resultado = new ArrayList<>(semanas.size());
+        for (int i = 0; i < semanas.size(); i++) {
+            resultado.add(new SemanaDelMesDTO(i + 1, semanas.get(i), horasPorSemana.get(i)));
         }
-
-        return semanas;
+        return resultado;
     }
 
     public List<TurnoDTO> getTurnosPorSemanaEstricta(int mes, int anio, int numeroSemana) {
-        List<List<String>> semanasDelMes = calcularSemanasDelMes(mes, anio);
-        List<TurnoDTO> turnosDTO = new ArrayList<>();
+        // Los límites de la semana se calculan en memoria: una única consulta por rango
+        LocalDate inicioSemana = CalendarioSemanas.inicioSemana(mes, anio, numeroSemana);
+        LocalDate finSemana = CalendarioSemanas.finSemana(mes, anio, numeroSemana);
 
-        // Validar que el número de semana sea válido
-        if (numeroSemana < 1 || numeroSemana > semanasDelMes.size()) {
-            throw new IllegalArgumentException("El número de semana " + numeroSemana + " no es válido para el mes " + mes + "/" + anio + ". Hay " + semanasDelMes.size() + " semanas.");
-        }
-
-        // Obtener la semana específica (el índice es numeroSemana - 1 porque las listas empiezan en 0)
-        List<String> semana = semanasDelMes.get(numeroSemana - 1);
-
-        if (!semana.isEmpty()) {
-            LocalDate inicioSemana = LocalDate.parse(semana.get(0));
-            LocalDate finSemana = LocalDate.parse(semana.get(semana.size() - 1));
+        List<TurnoDTO> turnos = completarDTOs(turnoRepository.findDTOByFechaBetween(inicioSemana, finSemana));
 
-            List<Turno> turnos = turnoRepository.findByFechaBetween(inicioSemana, finSemana);
+        // Horas por colaborador desde los acumulados diarios (la semana puede estar recortada al mes)
+        Map<Long, Double> horasSemanalesPorColaborador = horasPorColaborador(
+                resumenHorasService.minutosPorColaborador(inicioSemana, finSemana));
 
-            // Mapa para almacenar la suma de horas trabajadas por colaborador en la semana
-            Map<Long, Double> horasSemanalesPorColaborador = new HashMap<>();
+        // Asignar horas semanales
+        for (TurnoDTO turno : turnos) {
+            turno.setHorasTotalesSemana(horasSemanalesPorColaborador.getOrDefault(turno.getColaboradorId(), 0.0));
+        }
 
-            for (Turno turno : turnos) {
-                double horasTrabajadas = calcularHorasTrabajadas(turno);
-                horasSemanalesPorColaborador.put(
-                        turno.getColaborador().getId(),
-                        horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0) + horasTrabajadas
-                );
-            }
+        return turnos;
+    }
 
-            // Convertir turnos a DTO y asignar horas semanales
-            for (Turno turno : turnos) {
-                TurnoDTO dto = convertToDTO(turno);
-                dto.setHorasTotalesSemana(horasSemanalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0));
-                turnosDTO.add(dto);
-            }
-        }
+    public String getEtagSemanaEstricta(int mes, int anio, int numeroSemana) {
+        return etagRango(CalendarioSemanas.inicioSemana(mes, anio, numeroSemana), CalendarioSemanas.finSemana(mes, anio, numeroSemana));
+    }
 
-        return turnosDTO;
+    // ETag fuerte de un rango: filas y escrituras de resumen_horas_dia más la generación de datos maestros,
+    // todo en una consulta para que las tres partes salgan de la misma foto de la base.
+    // Debe leerse antes que los datos: si una escritura se confirma entre ambas lecturas, el ETag queda
+    // viejo y el cliente solo vuelve a pedir la respuesta; nunca se asocia un ETag nuevo a datos viejos.
+    private String etagRango(LocalDate inicio, LocalDate fin) {
+        SelloRangoDTO sello = resumenHorasService.selloRango(inicio, fin);
+        return "\"" + inicio + "_" + fin + "-" + sello.getFilas() + "-" + sello.getCambios() + "-" + sello.getGeneracionMaestros() + "\"";
     }
 
     // --------------------- REPORTES ------------------------
@@ -319,24 +511,16 @@ public class TurnoService {
         try {
             LocalDate parsedFechaInicio = LocalDate.parse(fechaInicio);
             LocalDate parsedFechaFin = LocalDate.parse(fechaFin);
-            List<Turno> turnos = turnoRepository.findByTienda_IdAndFechaBetweenOrderByFechaAsc(tiendaId, parsedFechaInicio, parsedFechaFin);
-            Map<Long, Double> horasTotalesPorColaborador = new HashMap<>();
-
-            for (Turno turno : turnos) {
-                double horasTrabajadas = calcularHorasTrabajadas(turno);
-                horasTotalesPorColaborador.put(
-                        turno.getColaborador().getId(),
-                        horasTotalesPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0) + horasTrabajadas
-                );
+            List<TurnoDTO> turnos = completarDTOs(turnoRepository.findDTOByTiendaIdAndFechaBetween(tiendaId, parsedFechaInicio, parsedFechaFin));
+            // Horas por colaborador sumadas en la base de datos
+            Map<Long, Double> horasTotalesPorColaborador = horasPorColaborador(
+                    turnoRepository.sumMinutosPorColaboradorEnTienda(tiendaId, parsedFechaInicio, parsedFechaFin));
+
+            // Asignar horas totales acumuladas
+            for (TurnoDTO turno : turnos) {
+                turno.setHorasTotalesSemana(horasTotalesPorColaborador.getOrDefault(turno.getColaboradorId(), 0.0));
             }
-
-            // Convertir a DTO con horas totales acumuladas
             return turnos.stream()
-                    .map(turno -> {
-                        TurnoDTO dto = convertToDTO(turno);
-                        dto.setHorasTotalesSemana(horasTotalesPorColaborador.get(turno.getColaborador().getId()));
-                        return dto;
-                    })
                     .distinct() // Evitar duplicados por colaborador si se desea
                     .collect(Collectors.toList());
         } catch (Exception e) {
@@ -349,22 +533,16 @@ public class TurnoService {
         LocalDate inicio = LocalDate.parse(fechaInicio);
         LocalDate fin = LocalDate.parse(fechaFin);
 
-        List<Turno> turnos = turnoRepository.findByColaborador_IdInAndFechaBetween(colaboradores, inicio, fin);
+        List<TurnoDTO> turnos = completarDTOs(turnoRepository.findDTOByColaboradorIdInAndFechaBetween(colaboradores, inicio, fin));
 
-        Map<Long, Double> horasTotales = new HashMap<>();
+        // Horas por colaborador desde los acumulados diarios
+        Map<Long, Double> horasTotales = horasPorColaborador(
+                resumenHorasService.minutosPorColaboradores(colaboradores, inicio, fin));
 
-        for (Turno turno : turnos) {
-            horasTotales.put(
-                    turno.getColaborador().getId(),
-                    horasTotales.getOrDefault(turno.getColaborador().getId(), 0.0) + turno.getHorasTrabajadas()
-            );
+        for (TurnoDTO turno : turnos) {
+            turno.setHorasTotalesSemana(horasTotales.getOrDefault(turno.getColaboradorId(), 0.0)); // Asignamos total
         }
-
-        return turnos.stream().map(turno -> {
-            TurnoDTO dto = convertToDTO(turno);
-            dto.setHorasTotalesSemana(horasTotales.get(turno.getColaborador().getId())); // Asignamos total
-            return dto;
-        }).distinct().toList();
+        return turnos.stream().distinct().toList();
     }
 
     // Reporte 3: Turnos en feriados (MODIFICADO)
@@ -372,78 +550,66 @@ public class TurnoService {
         LocalDate inicio = LocalDate.parse(fechaInicio);
         LocalDate fin = LocalDate.parse(fechaFin);
         // Filtrar por colaboradores y rango de fechas, luego por feriados
-        List<Turno> turnos = turnoRepository.findByColaborador_IdInAndFechaBetween(colaboradores, inicio, fin)
-                .stream()
-                .filter(Turno::isEsFeriado)
-                .collect(Collectors.toList());
+        List<TurnoDTO> turnos = completarDTOs(turnoRepository.findDTOFeriadosByColaboradorIdInAndFechaBetween(colaboradores, inicio, fin));
 
-        // Calcular horas totales en feriados por colaborador
-        Map<Long, Double> horasFeriadosPorColaborador = new HashMap<>();
-        for (Turno turno : turnos) {
-            double horasTrabajadas = calcularHorasTrabajadas(turno);
-            horasFeriadosPorColaborador.put(
-                    turno.getColaborador().getId(),
-                    horasFeriadosPorColaborador.getOrDefault(turno.getColaborador().getId(), 0.0) + horasTrabajadas
-            );
-        }
+        // Horas en feriado por colaborador desde los acumulados diarios
+        Map<Long, Double> horasFeriadosPorColaborador = horasPorColaborador(
+                resumenHorasService.minutosFeriadoPorColaboradores(colaboradores, inicio, fin));
 
+        for (TurnoDTO turno : turnos) {
+            turno.setHorasTotalesSemana(horasFeriadosPorColaborador.getOrDefault(turno.getColaboradorId(), 0.0));
+        }
         return turnos.stream()
-                .map(turno -> {
-                    TurnoDTO dto = convertToDTO(turno);
-                    dto.setHorasTotalesSemana(horasFeriadosPorColaborador.get(turno.getColaborador().getId()));
-                    return dto;
-                })
                 .distinct()
                 .collect(Collectors.toList());
     }
 
 
     public List<ResumenMensualDTO> getResumenMensualPorColaboradores(List<Long> colaboradoresIds, int mes, int anio) {
+        return getResumenMensualPorColaboradores(colaboradoresIds, mes, anio, true);
+    }
+
+    // Los totales salen de los acumulados mensuales; el detalle de turnos solo se consulta si se pide
+    public List<ResumenMensualDTO> getResumenMensualPorColaboradores(List<Long> colaboradoresIds, int mes, int anio, boolean incluirTurnos) {
         LocalDate inicioMes = LocalDate.of(anio, mes, 1);
         LocalDate finMes = inicioMes.withDayOfMonth(inicioMes.lengthOfMonth());
 
-        // Si no se especifican colaboradores, obtener todos
-        List<Long> idsAConsultar = colaboradoresIds != null && !colaboradoresIds.isEmpty()
-                ? colaboradoresIds
-                : colaboradorRepository.findAll().stream().map(Colaborador::getId).toList();
+        // Nombres de todos los colaboradores consultados en una sola consulta (todos si no se especifican)
+        boolean todos = colaboradoresIds == null || colaboradoresIds.isEmpty();
+        List<ColaboradorNombreDTO> nombres = todos
+                ? colaboradorRepository.findAllNombres()
+                : colaboradorRepository.findNombresByIdIn(colaboradoresIds);
+        Map<Long, String> nombrePorColaborador = nombres.stream()
+                .collect(Collectors.toMap(ColaboradorNombreDTO::getId, ColaboradorNombreDTO::getNombre));
+        List<Long> idsAConsultar = todos
+                ? nombres.stream().map(ColaboradorNombreDTO::getId).toList()
+                : colaboradoresIds;
 
-        List<Turno> turnos = turnoRepository.findByColaborador_IdInAndFechaBetween(idsAConsultar, inicioMes, finMes);
+        Map<Long, ResumenHorasMes> acumuladosPorColaborador = resumenHorasService.resumenesDelMes(idsAConsultar, mes, anio).stream()
+                .collect(Collectors.toMap(ResumenHorasMes::getColaboradorId, r -> r));
 
         // Agrupar turnos por colaborador
-        Map<Long, List<Turno>> turnosPorColaborador = turnos.stream()
-                .collect(Collectors.groupingBy(t -> t.getColaborador().getId()));
+        Map<Long, List<TurnoDTO>> turnosPorColaborador = incluirTurnos
+                ? completarDTOs(turnoRepository.findDTOByColaboradorIdInAndFechaBetween(idsAConsultar, inicioMes, finMes)).stream()
+                        .collect(Collectors.groupingBy(TurnoDTO::getColaboradorId))
+                : Collections.emptyMap();
 
         List<ResumenMensualDTO> resumenes = new ArrayList<>();
 
         for (Long colaboradorId : idsAConsultar) {
-            List<Turno> turnosColaborador = turnosPorColaborador.getOrDefault(colaboradorId, Collections.emptyList());
+            ResumenHorasMes acumulado = acumuladosPorColaborador.get(colaboradorId);
 
-            // Calcular totales
-            double totalHorasMes = turnosColaborador.stream()
-                    .mapToDouble(this::calcularHorasTrabajadas)
-                    .sum();
-
-            long diasFeriadosTrabajados = turnosColaborador.stream()
-                    .filter(Turno::isEsFeriado)
-                    .map(Turno::getFecha)
-                    .distinct()
-                    .count();
-
-            double horasEnFeriados = turnosColaborador.stream()
-                    .filter(Turno::isEsFeriado)
-                    .mapToDouble(this::calcularHorasTrabajadas)
-                    .sum();
-
-            Colaborador colaborador = colaboradorRepository.findById(colaboradorId)
-                    .orElseThrow(() -> new RuntimeException("Colaborador no encontrado"));
+            if (!nombrePorColaborador.containsKey(colaboradorId)) {
+                throw new RuntimeException("Colaborador no encontrado");
+            }
 
             ResumenMensualDTO resumen = new ResumenMensualDTO(
                     colaboradorId,
-                    colaborador.getNombre(),
-                    totalHorasMes,
-                    (int) diasFeriadosTrabajados,
-                    horasEnFeriados,
-                    turnosColaborador.stream().map(this::convertToDTO).toList() // Opcional
+                    nombrePorColaborador.get(colaboradorId),
+                    acumulado != null ? CalculadoraHoras.aHoras(acumulado.getMinutosTrabajados()) : 0.0,
+                    acumulado != null ? acumulado.getDiasFeriado() : 0,
+                    acumulado != null ? CalculadoraHoras.aHoras(acumulado.getMinutosFeriado()) : 0.0,
+                    incluirTurnos ? turnosPorColaborador.getOrDefault(colaboradorId, Collections.emptyList()) : null // Opcional
             );
 
             resumenes.add(resumen);
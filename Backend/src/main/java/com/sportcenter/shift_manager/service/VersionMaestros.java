@@ -0,0 +1,23 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.repository.GeneracionMaestrosRepository;
+import org.springframework.stereotype.Component;
+
+// Generación de los datos maestros que aparecen dentro de TurnoDTO (nombres de colaborador,
+// empresa y tienda, y el calendario de feriados). Se incrementa en cada cambio y forma parte
+// de los ETag de turnos. Vive en la tabla generacion_maestros y no en memoria: todas las instancias
+// calculan el mismo ETag para los mismos datos y un reinicio no invalida los que tienen los clientes.
+@Component
+public class VersionMaestros {
+    private final GeneracionMaestrosRepository generacionMaestrosRepository;
+
+    public VersionMaestros(GeneracionMaestrosRepository generacionMaestrosRepository) {
+        this.generacionMaestrosRepository = generacionMaestrosRepository;
+    }
+
+    // En la misma transacción que el cambio: una lectura concurrente ve la generación nueva
+    // solo cuando también puede ver los datos que la causaron.
+    public void incrementar() {
+        generacionMaestrosRepository.incrementar();
+    }
+}
@@ -0,0 +1,59 @@
+package db.migration.common;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalTime;
+
+// Completa minutos_trabajados en los turnos guardados antes de V4.
+// Como migración termina antes de que arranque el contexto: ninguna petición ve la columna a medio llenar.
+// (Reemplaza al relleno que corría en ApplicationReadyEvent, con Tomcat ya atendiendo.)
+// La regla del almuerzo está copiada de CalculadoraHoras a propósito: Flyway no guarda checksum de las migraciones
+// Java, así que esta debe dar el mismo resultado aunque la regla de la aplicación cambie más adelante.
+public class V13__minutos_trabajados_pendientes extends BaseJavaMigration {
+    private static final int TAMANO_LOTE = 500;
+    private static final LocalTime LIMITE_ENTRADA_ALMUERZO = LocalTime.of(12, 1);
+    private static final LocalTime LIMITE_SALIDA_ALMUERZO = LocalTime.of(14, 0);
+    private static final int MINUTOS_ALMUERZO = 45;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexion = context.getConnection();
+        try (Statement consulta = conexion.createStatement();
+             PreparedStatement actualizar = conexion.prepareStatement("update turno set minutos_trabajados = ? where id = ?")) {
+            consulta.setFetchSize(TAMANO_LOTE);
+            try (ResultSet pendientes = consulta.executeQuery(
+                    "select id, hora_entrada, hora_salida from turno where minutos_trabajados is null")) {
+                int enLote = 0;
+                while (pendientes.next()) {
+                    actualizar.setInt(1, minutosTrabajados(
+                            pendientes.getObject("hora_entrada", LocalTime.class),
+                            pendientes.getObject("hora_salida", LocalTime.class)));
+                    actualizar.setLong(2, pendientes.getLong("id"));
+                    actualizar.addBatch();
+                    if (++enLote == TAMANO_LOTE) {
+                        actualizar.executeBatch();
+                        enLote = 0;
+                    }
+                }
+                actualizar.executeBatch();
+            }
+        }
+    }
+
+    private static int minutosTrabajados(LocalTime horaEntrada, LocalTime horaSalida) {
+        if (horaEntrada == null || horaSalida == null) {
+            return 0;
+        }
+        long minutos = Duration.between(horaEntrada, horaSalida).toMinutes();
+        if (horaEntrada.isBefore(LIMITE_ENTRADA_ALMUERZO) && horaSalida.isAfter(LIMITE_SALIDA_ALMUERZO)) {
+            minutos -= MINUTOS_ALMUERZO;
+        }
+        return (int) minutos;
+    }
+}
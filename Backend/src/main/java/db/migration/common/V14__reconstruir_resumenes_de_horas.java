@@ -0,0 +1,139 @@
+package db.migration.common;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Llena los acumulados de V5 a partir de la tabla turno si siguen vacíos, con las mismas reglas que
+// ResumenHorasService (días feriados por mes = días con algún turno feriado). Desde aquí los mantiene el servicio.
+// Suma la columna minutos_trabajados que dejó completa V13 en lugar de recalcular con clases de la aplicación:
+// Flyway no guarda checksum de las migraciones Java y el resultado no debe depender del código actual.
+// Como migración termina antes de que arranque el contexto: ningún reporte lee acumulados a medio reconstruir.
+public class V14__reconstruir_resumenes_de_horas extends BaseJavaMigration {
+    private static final int TAMANO_LOTE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexion = context.getConnection();
+        try (Statement consulta = conexion.createStatement();
+             ResultSet existentes = consulta.executeQuery("select count(*) from resumen_horas_dia")) {
+            existentes.next();
+            if (existentes.getLong(1) > 0) {
+                return;
+            }
+        }
+
+        try (Statement consulta = conexion.createStatement();
+             PreparedStatement dias = conexion.prepareStatement("insert into resumen_horas_dia " +
+                     "(colaborador_id, fecha, minutos_trabajados, minutos_feriado, turnos, turnos_feriado) values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement semanas = conexion.prepareStatement("insert into resumen_horas_semana " +
+                     "(colaborador_id, anio_iso, semana_iso, minutos_trabajados, minutos_feriado, turnos) values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement meses = conexion.prepareStatement("insert into resumen_horas_mes " +
+                     "(colaborador_id, anio, mes, minutos_trabajados, minutos_feriado, dias_feriado, turnos) values (?, ?, ?, ?, ?, ?, ?)")) {
+            consulta.setFetchSize(TAMANO_LOTE);
+            try (ResultSet turnos = consulta.executeQuery("select colaborador_id, fecha, minutos_trabajados, es_feriado " +
+                    "from turno where fecha is not null order by colaborador_id, fecha")) {
+                // Ordenados por colaborador: se acumula uno a la vez y se escribe al pasar al siguiente
+                Long colaboradorId = null;
+                Map<LocalDate, Acumulado> porDia = new LinkedHashMap<>();
+                while (turnos.next()) {
+                    long actual = turnos.getLong("colaborador_id");
+                    if (colaboradorId != null && colaboradorId != actual) {
+                        escribir(colaboradorId, porDia, dias, semanas, meses);
+                        porDia.clear();
+                    }
+                    colaboradorId = actual;
+
+                    int minutos = turnos.getInt("minutos_trabajados");
+                    boolean feriado = turnos.getBoolean("es_feriado");
+                    porDia.computeIfAbsent(turnos.getObject("fecha", LocalDate.class), fecha -> new Acumulado())
+                            .agregar(minutos, feriado ? minutos : 0, 1, feriado ? 1 : 0);
+                }
+                if (colaboradorId != null) {
+                    escribir(colaboradorId, porDia, dias, semanas, meses);
+                }
+            }
+        }
+    }
+
+    private static void escribir(long colaboradorId, Map<LocalDate, Acumulado> porDia,
+                                 PreparedStatement dias, PreparedStatement semanas, PreparedStatement meses) throws SQLException {
+        Map<Periodo, Acumulado> porSemana = new LinkedHashMap<>();
+        Map<Periodo, Acumulado> porMes = new LinkedHashMap<>();
+        for (Map.Entry<LocalDate, Acumulado> entrada : porDia.entrySet()) {
+            LocalDate fecha = entrada.getKey();
+            Acumulado dia = entrada.getValue();
+            dia.diasFeriado = dia.turnosFeriado > 0 ? 1 : 0;
+
+            dias.setLong(1, colaboradorId);
+            dias.setDate(2, Date.valueOf(fecha));
+            dias.setInt(3, dia.minutos);
+            dias.setInt(4, dia.minutosFeriado);
+            dias.setInt(5, dia.turnos);
+            dias.setInt(6, dia.turnosFeriado);
+            dias.addBatch();
+
+            porSemana.computeIfAbsent(new Periodo(fecha.get(IsoFields.WEEK_BASED_YEAR), fecha.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)),
+                    clave -> new Acumulado()).sumar(dia);
+            porMes.computeIfAbsent(new Periodo(fecha.getYear(), fecha.getMonthValue()), clave -> new Acumulado()).sumar(dia);
+        }
+        for (Map.Entry<Periodo, Acumulado> entrada : porSemana.entrySet()) {
+            Acumulado semana = entrada.getValue();
+            semanas.setLong(1, colaboradorId);
+            semanas.setInt(2, entrada.getKey().anio());
+            semanas.setInt(3, entrada.getKey().numero());
+            semanas.setInt(4, semana.minutos);
+            semanas.setInt(5, semana.minutosFeriado);
+            semanas.setInt(6, semana.turnos);
+            semanas.addBatch();
+        }
+        for (Map.Entry<Periodo, Acumulado> entrada : porMes.entrySet()) {
+            Acumulado mes = entrada.getValue();
+            meses.setLong(1, colaboradorId);
+            meses.setInt(2, entrada.getKey().anio());
+            meses.setInt(3, entrada.getKey().numero());
+            meses.setInt(4, mes.minutos);
+            meses.setInt(5, mes.minutosFeriado);
+            meses.setInt(6, mes.diasFeriado);
+            meses.setInt(7, mes.turnos);
+            meses.addBatch();
+        }
+        dias.executeBatch();
+        semanas.executeBatch();
+        meses.executeBatch();
+    }
+
+    // numero es la semana ISO o el mes, según el mapa que lo use
+    private record Periodo(int anio, int numero) {
+    }
+
+    private static final class Acumulado {
+        private int minutos;
+        private int minutosFeriado;
+        private int turnos;
+        private int turnosFeriado;
+        private int diasFeriado;
+
+        void agregar(int minutos, int minutosFeriado, int turnos, int turnosFeriado) {
+            this.minutos += minutos;
+            this.minutosFeriado += minutosFeriado;
+            this.turnos += turnos;
+            this.turnosFeriado += turnosFeriado;
+        }
+
+        void sumar(Acumulado otro) {
+            agregar(otro.minutos, otro.minutosFeriado, otro.turnos, otro.turnosFeriado);
+            diasFeriado += otro.diasFeriado;
+        }
+    }
+}
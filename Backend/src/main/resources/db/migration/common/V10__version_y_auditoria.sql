@@ -0,0 +1,13 @@
+-- Bloqueo optimista (@Version) y marcas de creación/actualización en turno y colaborador.
+-- Las filas existentes quedan con versión 0 y la fecha de la migración.
+alter table turno add column version bigint not null default 0;
+alter table turno add column fecha_creacion timestamp with time zone not null default current_timestamp;
+alter table turno add column fecha_actualizacion timestamp with time zone not null default current_timestamp;
+
+alter table colaborador add column version bigint not null default 0;
+alter table colaborador add column fecha_creacion timestamp with time zone not null default current_timestamp;
+alter table colaborador add column fecha_actualizacion timestamp with time zone not null default current_timestamp;
+
+-- Consultas "cambios desde T" para el refresco incremental de los clientes
+create index idx_turno_fecha_actualizacion on turno (fecha_actualizacion);
+create index idx_colaborador_fecha_actualizacion on colaborador (fecha_actualizacion);
@@ -0,0 +1,12 @@
+-- Registro de bajas para el feed de cambios (/api/turnos/cambios): los clientes quitan estos turnos
+-- de su copia local. También se registra la fecha anterior de un turno que se mueve a otro día.
+create table turno_eliminado (
+    id bigint generated by default as identity,
+    turno_id bigint not null,
+    colaborador_id bigint not null,
+    fecha date not null,
+    fecha_eliminacion timestamp with time zone not null,
+    primary key (id)
+);
+
+create index idx_turno_eliminado_fecha_eliminacion on turno_eliminado (fecha_eliminacion);
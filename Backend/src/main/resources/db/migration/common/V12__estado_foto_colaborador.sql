@@ -0,0 +1,4 @@
+-- Las fotos se suben en segundo plano: estado de la última subida y solicitud en curso.
+-- foto_solicitud evita que una subida vieja que termina tarde pise a una más reciente.
+alter table colaborador add column foto_estado varchar(10);
+alter table colaborador add column foto_solicitud varchar(36);
@@ -0,0 +1,10 @@
+-- Generación de los datos maestros que aparecen en los ETag de turnos (nombres de colaborador, empresa y
+-- tienda, calendario de feriados). Una sola fila para todas las instancias: cada cambio la incrementa en su
+-- propia transacción y los ETag la leen en la misma consulta que el sello del rango de fechas.
+create table generacion_maestros (
+    id integer not null,
+    generacion bigint not null,
+    primary key (id)
+);
+
+insert into generacion_maestros (id, generacion) values (1, 0);
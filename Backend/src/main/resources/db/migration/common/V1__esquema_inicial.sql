@@ -0,0 +1,67 @@
+-- Esquema inicial, equivalente al que generaba spring.jpa.hibernate.ddl-auto=update.
+-- Las bases existentes se marcan como baseline en esta versión (spring.flyway.baseline-on-migrate).
+
+create table empresa (
+    id bigint generated by default as identity,
+    nombre varchar(100) not null unique,
+    ruc varchar(11) not null unique,
+    habilitada boolean not null,
+    primary key (id)
+);
+
+create table puesto (
+    id bigint generated by default as identity,
+    nombre varchar(50) not null unique,
+    descripcion varchar(255),
+    primary key (id)
+);
+
+create table tienda (
+    id bigint generated by default as identity,
+    nombre varchar(40) not null,
+    direccion varchar(255),
+    primary key (id)
+);
+
+create table feriado (
+    id bigint generated by default as identity,
+    fecha date not null unique,
+    descripcion varchar(255),
+    primary key (id)
+);
+
+create table colaborador (
+    id bigint generated by default as identity,
+    nombre varchar(15) not null,
+    apellido varchar(20) not null,
+    dni varchar(8) not null unique,
+    telefono varchar(15),
+    email varchar(100) unique,
+    foto_url varchar(255),
+    empresa_id bigint,
+    habilitado boolean not null,
+    fecha_nacimiento date,
+    puesto_id bigint,
+    primary key (id),
+    constraint fk_colaborador_empresa foreign key (empresa_id) references empresa,
+    constraint fk_colaborador_puesto foreign key (puesto_id) references puesto
+);
+
+create index idx_email on colaborador (email);
+create index idx_dni on colaborador (dni);
+create index idx_empresa_id on colaborador (empresa_id);
+
+create table turno (
+    id bigint generated by default as identity,
+    colaborador_id bigint not null,
+    fecha date,
+    hora_entrada time(6),
+    hora_salida time(6),
+    empresa_id bigint not null,
+    tienda_id bigint not null,
+    es_feriado boolean not null,
+    primary key (id),
+    constraint fk_turno_colaborador foreign key (colaborador_id) references colaborador,
+    constraint fk_turno_empresa foreign key (empresa_id) references empresa,
+    constraint fk_turno_tienda foreign key (tienda_id) references tienda
+);
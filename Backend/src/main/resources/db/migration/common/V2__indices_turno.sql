@@ -0,0 +1,5 @@
+-- Índices para los patrones de acceso de TurnoRepository:
+-- rango de fechas, colaborador + rango de fechas y tienda + rango de fechas.
+create index idx_turno_fecha on turno (fecha);
+create index idx_turno_colaborador_fecha on turno (colaborador_id, fecha);
+create index idx_turno_tienda_fecha on turno (tienda_id, fecha);
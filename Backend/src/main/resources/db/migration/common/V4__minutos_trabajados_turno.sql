@@ -0,0 +1,3 @@
+-- Minutos trabajados precalculados por turno (ver CalculadoraHoras).
+-- Las filas existentes quedan en null y las completa MinutosTrabajadosBackfill al arrancar.
+alter table turno add column minutos_trabajados integer;
@@ -0,0 +1,43 @@
+-- Acumulados de horas por colaborador (día, semana ISO y mes), mantenidos por ResumenHorasService.
+-- Se reconstruyen desde turno al arrancar si están vacíos.
+create table resumen_horas_dia (
+    id bigint generated by default as identity,
+    colaborador_id bigint not null,
+    fecha date not null,
+    minutos_trabajados integer not null,
+    minutos_feriado integer not null,
+    turnos integer not null,
+    turnos_feriado integer not null,
+    primary key (id),
+    constraint uk_resumen_dia_colaborador_fecha unique (colaborador_id, fecha),
+    constraint fk_resumen_dia_colaborador foreign key (colaborador_id) references colaborador on delete cascade
+);
+
+create table resumen_horas_semana (
+    id bigint generated by default as identity,
+    colaborador_id bigint not null,
+    anio_iso integer not null,
+    semana_iso integer not null,
+    minutos_trabajados integer not null,
+    minutos_feriado integer not null,
+    turnos integer not null,
+    primary key (id),
+    constraint uk_resumen_semana_colaborador unique (colaborador_id, anio_iso, semana_iso),
+    constraint fk_resumen_semana_colaborador foreign key (colaborador_id) references colaborador on delete cascade
+);
+
+create table resumen_horas_mes (
+    id bigint generated by default as identity,
+    colaborador_id bigint not null,
+    anio integer not null,
+    mes integer not null,
+    minutos_trabajados integer not null,
+    minutos_feriado integer not null,
+    dias_feriado integer not null,
+    turnos integer not null,
+    primary key (id),
+    constraint uk_resumen_mes_colaborador unique (colaborador_id, anio, mes),
+    constraint fk_resumen_mes_colaborador foreign key (colaborador_id) references colaborador on delete cascade
+);
+
+create index idx_resumen_dia_fecha on resumen_horas_dia (fecha);
@@ -0,0 +1,25 @@
+-- Plantillas de programación semanal: turnos por día de la semana (1 = lunes ... 7 = domingo)
+-- que ProgramacionService aplica a un rango de semanas.
+create table plantilla_semana (
+    id bigint generated by default as identity,
+    nombre varchar(100) not null,
+    fecha_creacion date not null,
+    primary key (id),
+    constraint uk_plantilla_semana_nombre unique (nombre)
+);
+
+create table plantilla_turno (
+    id bigint generated by default as identity,
+    plantilla_id bigint not null,
+    colaborador_id bigint not null,
+    tienda_id bigint not null,
+    dia_semana integer not null,
+    hora_entrada time(6) not null,
+    hora_salida time(6) not null,
+    primary key (id),
+    constraint fk_plantilla_turno_plantilla foreign key (plantilla_id) references plantilla_semana on delete cascade,
+    constraint fk_plantilla_turno_colaborador foreign key (colaborador_id) references colaborador on delete cascade,
+    constraint fk_plantilla_turno_tienda foreign key (tienda_id) references tienda on delete cascade
+);
+
+create index idx_plantilla_turno_plantilla on plantilla_turno (plantilla_id);
@@ -0,0 +1,3 @@
+-- Contador de escrituras por colaborador y día: cada alta, cambio o baja de turno lo incrementa.
+-- COUNT + SUM(cambios) sobre un rango de fechas sirve como sello de versión barato para los ETag.
+alter table resumen_horas_dia add column cambios bigint not null default 0;
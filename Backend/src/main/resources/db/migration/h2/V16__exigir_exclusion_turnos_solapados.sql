@@ -0,0 +1,2 @@
+-- H2 no tiene restricciones de exclusión (ver V8): no hay nada que exigir.
+select 1;
@@ -0,0 +1,2 @@
+-- H2 no soporta índices parciales: equivalente aproximado del índice de PostgreSQL.
+create index idx_turno_feriado_fecha on turno (es_feriado, fecha);
@@ -0,0 +1,2 @@
+-- Equivalente de la migración de PostgreSQL; en H2 la base siempre arranca vacía, no hace falta ajustar el inicio.
+create sequence turno_seq start with 1 increment by 50;
@@ -0,0 +1,2 @@
+-- H2 no tiene restricciones de exclusión ni rangos: en las pruebas el solapamiento se valida solo en AgendaTurnos.
+select 1;
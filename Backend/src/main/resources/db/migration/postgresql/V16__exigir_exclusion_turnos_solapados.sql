@@ -0,0 +1,48 @@
+-- V8 no creaba ex_turno_colaborador_solapado si ya había turnos superpuestos: dejaba un aviso en el log y la
+-- garantía no existía sin que nadie se enterara. Esta migración la exige: si falta y sigue habiendo
+-- superposiciones, falla con la lista de turnos en conflicto. Se corrigen (GET /api/turnos/conflictos?mes=&anio=)
+-- y se vuelve a desplegar; si no queda ninguna, la crea.
+--
+-- Requisito de despliegue: la extensión btree_gist. "create extension" de V8 necesita privilegio CREATE en la
+-- base; si el usuario de la aplicación no lo tiene, un DBA la crea antes (ver README):
+--     create extension if not exists btree_gist;
+do $$
+declare
+    conflictos text;
+begin
+    if exists (
+        select 1 from pg_constraint
+        where conname = 'ex_turno_colaborador_solapado' and conrelid = 'turno'::regclass
+    ) then
+        return;
+    end if;
+
+    if not exists (select 1 from pg_extension where extname = 'btree_gist') then
+        raise exception 'Falta la extensión btree_gist: un usuario con privilegio CREATE sobre la base debe ejecutar "create extension btree_gist"';
+    end if;
+
+    select string_agg(format('colaborador %s, %s: turno %s (%s-%s) y turno %s (%s-%s)',
+                             a.colaborador_id, a.fecha, a.id, a.hora_entrada, a.hora_salida,
+                             b.id, b.hora_entrada, b.hora_salida),
+                      E'\n' order by a.colaborador_id, a.fecha, a.id, b.id)
+    into conflictos
+    from turno a
+    join turno b on a.colaborador_id = b.colaborador_id
+                and a.fecha = b.fecha
+                and a.id < b.id
+                and a.hora_entrada < b.hora_salida
+                and b.hora_entrada < a.hora_salida;
+
+    if conflictos is not null then
+        raise exception 'Hay turnos superpuestos y no se puede crear ex_turno_colaborador_solapado. Corríjalos y vuelva a desplegar:%',
+            E'\n' || conflictos;
+    end if;
+
+    alter table turno add constraint ex_turno_colaborador_solapado
+        exclude using gist (
+            colaborador_id with =,
+            tsrange(fecha + hora_entrada, fecha + hora_salida, '[)') with &&
+        )
+        where (fecha is not null and hora_entrada is not null and hora_salida is not null);
+end
+$$;
@@ -0,0 +1,2 @@
+-- Índice parcial: solo los turnos en feriado, usados por /reporte/feriados.
+create index idx_turno_feriado_fecha on turno (fecha) where es_feriado = true;
@@ -0,0 +1,5 @@
+-- Ids de turno desde una secuencia con incremento 50 (allocationSize de Hibernate):
+-- permite agrupar los INSERT en lotes JDBC, cosa que IDENTITY impide.
+-- La secuencia arranca después del mayor id existente para no chocar con los turnos ya creados.
+create sequence turno_seq start with 1 increment by 50;
+select setval('turno_seq', (select coalesce(max(id), 0) + 50 from turno), false);
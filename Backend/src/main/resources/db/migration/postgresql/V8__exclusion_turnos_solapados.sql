@@ -0,0 +1,30 @@
+-- Un colaborador no puede tener dos turnos superpuestos: restricción de exclusión sobre el intervalo
+-- [fecha + hora_entrada, fecha + hora_salida) por colaborador. Respalda la validación de AgendaTurnos
+-- cuando dos peticiones concurrentes pasan el chequeo a la vez.
+create extension if not exists btree_gist;
+
+-- Si ya hay turnos superpuestos la restricción no se puede crear. En ese caso se deja un aviso y la
+-- validación queda solo en la aplicación; tras corregirlos (GET /api/turnos/conflictos?mes=&anio=)
+-- se puede crear a mano con el mismo ALTER TABLE.
+do $$
+begin
+    if exists (
+        select 1
+        from turno a
+        join turno b on a.colaborador_id = b.colaborador_id
+                    and a.fecha = b.fecha
+                    and a.id < b.id
+                    and a.hora_entrada < b.hora_salida
+                    and b.hora_entrada < a.hora_salida
+    ) then
+        raise warning 'Hay turnos superpuestos; no se creó ex_turno_colaborador_solapado';
+    else
+        alter table turno add constraint ex_turno_colaborador_solapado
+            exclude using gist (
+                colaborador_id with =,
+                tsrange(fecha + hora_entrada, fecha + hora_salida, '[)') with &&
+            )
+            where (fecha is not null and hora_entrada is not null and hora_salida is not null);
+    end if;
+end
+$$;
@@ -0,0 +1,42 @@
+package com.sportcenter.shift_manager.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricasConfigTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusExponeEndpointsRepositoriosFeriadosYPool() throws Exception {
+        mockMvc.perform(get("/api/turnos/semanal-estricto").param("mes", "3").param("anio", "2025").param("semana", "2"))
+                .andExpect(status().isOk());
+
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(metricas)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/turnos/semanal-estricto\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("repository=\"TurnoRepository\"")
+                .contains("feriados_consultas_total{")
+                .contains("feriados_consultas_sin_calendario_total{")
+                .contains("feriados_calendario{")
+                .contains("hikaricp_connections_active{")
+                .contains("cache_gets_total{");
+    }
+}
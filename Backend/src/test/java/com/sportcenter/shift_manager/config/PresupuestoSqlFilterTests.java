@@ -0,0 +1,68 @@
+package com.sportcenter.shift_manager.config;
+
+import com.sportcenter.shift_manager.exception.PresupuestoSqlExcedidoException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "sql.presupuesto.endpoints={'/api/colaboradores/empresa/{empresaId}': 0, '/api/turnos/exportar/reporte': 0}")
+class PresupuestoSqlFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void informaSentenciasYTiempoEnEncabezados() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/api/colaboradores"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String sentencias = resultado.getResponse().getHeader(PresupuestoSqlFilter.ENCABEZADO_SENTENCIAS);
+        assertThat(sentencias).isNotNull();
+        assertThat(Integer.parseInt(sentencias)).isPositive();
+        assertThat(resultado.getResponse().getHeader(PresupuestoSqlFilter.ENCABEZADO_TIEMPO)).isNotNull();
+    }
+
+    @Test
+    void enModoEstrictoFallaAlSuperarElPresupuestoDelEndpoint() {
+        Throwable error = catchThrowable(() -> mockMvc.perform(get("/api/colaboradores/empresa/1")));
+
+        Throwable causa = NestedExceptionUtils.getMostSpecificCause(error);
+        assertThat(causa)
+                .isInstanceOf(PresupuestoSqlExcedidoException.class)
+                .hasMessageContaining("GET /api/colaboradores/empresa/{empresaId}")
+                .hasMessageContaining("presupuesto 0");
+    }
+
+    @Test
+    void lasExportacionesEnStreamingSeCuentanEnSuTareaYSeRevisanAlTerminar() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/api/turnos/exportar/reporte")
+                        .param("fechaInicio", "2025-03-01")
+                        .param("fechaFin", "2025-03-31")
+                        .param("formato", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // Las consultas aún no corrieron: nada de encabezados con un conteo parcial
+        assertThat(inicio.getResponse().getHeader(PresupuestoSqlFilter.ENCABEZADO_SENTENCIAS)).isNull();
+
+        Throwable error = catchThrowable(() -> mockMvc.perform(asyncDispatch(inicio)));
+
+        assertThat(NestedExceptionUtils.getMostSpecificCause(error))
+                .isInstanceOf(PresupuestoSqlExcedidoException.class)
+                .hasMessageContaining("GET /api/turnos/exportar/reporte");
+    }
+}
@@ -0,0 +1,40 @@
+package com.sportcenter.shift_manager.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GlobalExceptionHandlerTests {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void laExclusionDeTurnosSolapadosEsUnConflicto() {
+        ResponseEntity<String> porNombre = handler.handleDataIntegrity(violacion("insert into turno", ConflictoTurnoException.RESTRICCION_SOLAPAMIENTO));
+        assertThat(porNombre.getStatusCode().value()).isEqualTo(409);
+
+        // Sin nombre extraído por Hibernate: se reconoce por el mensaje de PostgreSQL
+        ResponseEntity<String> porMensaje = handler.handleDataIntegrity(violacion(
+                "conflicting key value violates exclusion constraint \"ex_turno_colaborador_solapado\"", null));
+        assertThat(porMensaje.getStatusCode().value()).isEqualTo(409);
+    }
+
+    @Test
+    void otrasViolacionesDeIntegridadSeRelanzan() {
+        DataIntegrityViolationException dniDuplicado = violacion("duplicate key value violates unique constraint \"uk_colaborador_dni\"", "uk_colaborador_dni");
+
+        assertThatThrownBy(() -> handler.handleDataIntegrity(dniDuplicado)).isSameAs(dniDuplicado);
+    }
+
+    private static DataIntegrityViolationException violacion(String mensajeSql, String restriccion) {
+        SQLException sql = new SQLException(mensajeSql, "23P01");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sql, restriccion));
+    }
+}
@@ -0,0 +1,65 @@
+package com.sportcenter.shift_manager.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Verifica, sobre H2 en modo PostgreSQL, que las migraciones de Flyway crean los índices de turno
+// y que los planes de las consultas de TurnoRepository los usan.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TurnoIndicesTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("insert into empresa (id, nombre, ruc, habilitada) values (900, 'Empresa Plan', '20999999999', true)");
+        jdbcTemplate.update("insert into tienda (id, nombre) values (900, 'Tienda Plan')");
+        jdbcTemplate.update("insert into colaborador (id, nombre, apellido, dni, empresa_id, habilitado) values (900, 'Plan', 'Test', '90000000', 900, true)");
+        for (int dia = 1; dia <= 28; dia++) {
+            jdbcTemplate.update("insert into turno (colaborador_id, fecha, hora_entrada, hora_salida, empresa_id, tienda_id, es_feriado) " +
+                            "values (900, ?, time '09:00:00', time '17:00:00', 900, 900, ?)",
+                    java.sql.Date.valueOf("2025-02-" + String.format("%02d", dia)), dia % 7 == 0);
+        }
+    }
+
+    @Test
+    void rangoDeFechasUsaIndiceDeFecha() {
+        assertThat(plan("select * from turno where fecha between date '2025-02-01' and date '2025-02-07'"))
+                .containsIgnoringCase("idx_turno_fecha");
+    }
+
+    @Test
+    void colaboradorYRangoDeFechasUsaIndiceCompuesto() {
+        assertThat(plan("select * from turno where colaborador_id = 900 and fecha between date '2025-02-01' and date '2025-02-07'"))
+                .containsIgnoringCase("idx_turno_colaborador_fecha");
+    }
+
+    @Test
+    void tiendaYRangoDeFechasUsaIndiceCompuesto() {
+        assertThat(plan("select * from turno where tienda_id = 900 and fecha between date '2025-02-01' and date '2025-02-07' order by fecha"))
+                .containsIgnoringCase("idx_turno_tienda_fecha");
+    }
+
+    @Test
+    void turnosEnFeriadoUsanIndiceDeFeriados() {
+        assertThat(plan("select * from turno where es_feriado = true and fecha between date '2025-02-01' and date '2025-02-28'"))
+                .containsIgnoringCase("idx_turno_feriado_fecha");
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+    }
+}
@@ -0,0 +1,69 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AgendaTurnosTests {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void detectaSolapamientoConElTurnoAnteriorYElSiguiente() {
+        AgendaTurnos agenda = new AgendaTurnos();
+        assertThat(agenda.reservar(1L, 10L, FECHA, hora(8), hora(12))).isNull();
+        assertThat(agenda.reservar(2L, 10L, FECHA, hora(15), hora(19))).isNull();
+
+        assertThat(agenda.conflicto(10L, FECHA, hora(11), hora(13)).turnoId()).isEqualTo(1L);
+        assertThat(agenda.conflicto(10L, FECHA, hora(13), hora(16)).turnoId()).isEqualTo(2L);
+        assertThat(agenda.conflicto(10L, FECHA, hora(7), hora(20)).turnoId()).isEqualTo(1L);
+    }
+
+    @Test
+    void turnosContiguosOtroDiaUOtroColaboradorNoChocan() {
+        AgendaTurnos agenda = new AgendaTurnos();
+        agenda.reservar(1L, 10L, FECHA, hora(8), hora(12));
+
+        assertThat(agenda.conflicto(10L, FECHA, hora(12), hora(14))).isNull();
+        assertThat(agenda.conflicto(10L, FECHA, hora(6), hora(8))).isNull();
+        assertThat(agenda.conflicto(10L, FECHA.plusDays(1), hora(8), hora(12))).isNull();
+        assertThat(agenda.conflicto(11L, FECHA, hora(8), hora(12))).isNull();
+    }
+
+    @Test
+    void reservarConConflictoNoOcupaElHueco() {
+        AgendaTurnos agenda = new AgendaTurnos();
+        agenda.reservar(1L, 10L, FECHA, hora(8), hora(12));
+
+        assertThat(agenda.reservar(null, 10L, FECHA, hora(10), hora(14))).isNotNull();
+        assertThat(agenda.conflicto(10L, FECHA, hora(12), hora(14))).isNull();
+    }
+
+    @Test
+    void datosExistentesSuperpuestosSeFusionanSinPerderConflictos() {
+        // 08-18 y 09-10 ya se superponen; 11-12 choca con el primero aunque el anterior por hora sea 09-10
+        AgendaTurnos agenda = AgendaTurnos.desde(List.of(turno(1L, 8, 18), turno(2L, 9, 10)));
+
+        assertThat(agenda.conflicto(10L, FECHA, hora(11), hora(12)).turnoId()).isEqualTo(1L);
+        assertThat(agenda.conflicto(10L, FECHA, hora(18), hora(20))).isNull();
+    }
+
+    private static LocalTime hora(int hora) {
+        return LocalTime.of(hora, 0);
+    }
+
+    private static TurnoDTO turno(Long id, int entrada, int salida) {
+        TurnoDTO turno = new TurnoDTO();
+        turno.setId(id);
+        turno.setColaboradorId(10L);
+        turno.setFecha(FECHA);
+        turno.setHoraEntrada(hora(entrada));
+        turno.setHoraSalida(hora(salida));
+        return turno;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.Empresa;
+import com.sportcenter.shift_manager.model.Tienda;
+import com.sportcenter.shift_manager.model.Turno;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Base de los tests de servicios de turnos sobre H2: todos importan el mismo conjunto de servicios
+ * (así comparten un único contexto de Spring) y parten de una empresa, una tienda y un colaborador.
+ */
+@DataJpaTest
+@Import({TurnoService.class, TiendaService.class, FeriadoService.class, VersionMaestros.class, ResumenHorasService.class,
+        CambiosTurnosService.class, ProgramacionService.class, ExportacionService.class})
+abstract class BaseTurnosTests {
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    protected TurnoService turnoService;
+
+    protected Empresa empresa;
+    protected Tienda tienda;
+    protected Colaborador colaborador;
+
+    @BeforeEach
+    void crearEmpresaTiendaYColaborador() {
+        empresa = new Empresa();
+        empresa.setNombre("Empresa Test");
+        empresa.setRuc("20123456789");
+        entityManager.persist(empresa);
+
+        tienda = tienda("Tienda Test");
+        colaborador = colaborador("Colaborador", "12345678");
+    }
+
+    protected Tienda tienda(String nombre) {
+        Tienda tienda = new Tienda();
+        tienda.setNombre(nombre);
+        entityManager.persist(tienda);
+        return tienda;
+    }
+
+    protected Colaborador colaborador(String nombre, String dni) {
+        Colaborador colaborador = new Colaborador();
+        colaborador.setNombre(nombre);
+        colaborador.setApellido("Test");
+        colaborador.setDni(dni);
+        colaborador.setEmpresa(empresa);
+        entityManager.persist(colaborador);
+        return colaborador;
+    }
+
+    protected Turno turno(LocalDate fecha, int horaEntrada, int horaSalida) {
+        return turno(colaborador, tienda, fecha, horaEntrada, horaSalida);
+    }
+
+    protected Turno turno(Colaborador colaborador, Tienda tienda, LocalDate fecha, int horaEntrada, int horaSalida) {
+        Turno turno = new Turno();
+        turno.setColaborador(colaborador);
+        turno.setTienda(tienda);
+        turno.setFecha(fecha);
+        turno.setHoraEntrada(LocalTime.of(horaEntrada, 0));
+        turno.setHoraSalida(LocalTime.of(horaSalida, 0));
+        return turno;
+    }
+}
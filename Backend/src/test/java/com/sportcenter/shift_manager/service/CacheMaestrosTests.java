@@ -0,0 +1,130 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.config.CacheConfig;
+import com.sportcenter.shift_manager.dto.EstadisticasCacheDTO;
+import com.sportcenter.shift_manager.dto.TiendaDTO;
+import com.sportcenter.shift_manager.model.Tienda;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({CacheConfig.class, TiendaService.class, FeriadoService.class, VersionMaestros.class, EstadisticasCacheService.class})
+class CacheMaestrosTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TiendaService tiendaService;
+
+    @Autowired
+    private FeriadoService feriadoService;
+
+    @Autowired
+    private EstadisticasCacheService estadisticasCacheService;
+
+    private Statistics statistics;
+    private Tienda tienda;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // La caché vive en el contexto compartido entre tests; cada test parte vacío
+        cacheManager.getCacheNames().forEach(nombre -> cacheManager.getCache(nombre).clear());
+
+        tienda = new Tienda();
+        tienda.setNombre("Tienda Cache");
+        entityManager.persist(tienda);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllTiendasSoloConsultaLaBaseLaPrimeraVez() {
+        // Las estadísticas son acumuladas desde que arranca el contexto: se comparan diferencias
+        EstadisticasCacheDTO antes = estadisticasDe(CacheConfig.TIENDAS);
+        tiendaService.getAllTiendas();
+
+        statistics.clear();
+        List<TiendaDTO> tiendas = tiendaService.getAllTiendas();
+
+        assertThat(tiendas).extracting(TiendaDTO::getNombre).contains("Tienda Cache");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        EstadisticasCacheDTO despues = estadisticasDe(CacheConfig.TIENDAS);
+        assertThat(despues.getAciertos() - antes.getAciertos()).isEqualTo(1);
+        assertThat(despues.getFallos() - antes.getFallos()).isEqualTo(1);
+        assertThat(despues.getTasaAciertos()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    void crearTiendaVaciaLaCache() {
+        tiendaService.getAllTiendas();
+
+        tiendaService.saveTienda(new TiendaDTO(null, "Tienda Nueva", null));
+
+        assertThat(tiendaService.getAllTiendas())
+                .extracting(TiendaDTO::getNombre)
+                .contains("Tienda Cache", "Tienda Nueva");
+    }
+
+    @Test
+    void buscarTiendaCacheaSoloTiendasExistentes() {
+        tiendaService.buscarTienda(tienda.getId());
+
+        statistics.clear();
+        assertThat(tiendaService.buscarTienda(tienda.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // Un id inexistente no se guarda: si la tienda se crea después, se encuentra
+        tiendaService.buscarTienda(-1L);
+        tiendaService.buscarTienda(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recargarElCalendarioVaciaLaCacheDeFeriadosYCadaConsultaSeCuenta() {
+        assertThat(feriadoService.getAllFeriados()).isNotEmpty();
+        assertThat(cacheManager.getCache(CacheConfig.FERIADOS).get("todos")).isNotNull();
+
+        feriadoService.recargarCalendario();
+        assertThat(cacheManager.getCache(CacheConfig.FERIADOS).get("todos")).isNull();
+
+        long consultas = feriadoService.getConsultasCalendario();
+        long sinCalendario = feriadoService.getConsultasSinCalendario();
+        assertThat(feriadoService.isFeriado(LocalDate.of(2025, 5, 1))).isTrue();
+        assertThat(feriadoService.isFeriado(LocalDate.of(2025, 5, 2))).isFalse();
+        assertThat(feriadoService.isFeriado(LocalDate.of(2030, 5, 1))).isFalse();
+        assertThat(feriadoService.getConsultasCalendario() - consultas).isEqualTo(3);
+        assertThat(feriadoService.getConsultasSinCalendario() - sinCalendario).isEqualTo(1);
+    }
+
+    private EstadisticasCacheDTO estadisticasDe(String nombre) {
+        return estadisticasCacheService.getEstadisticas().stream()
+                .filter(e -> e.getNombre().equals(nombre))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sportcenter.shift_manager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalendarioSemanasTests {
+
+    @Test
+    void marzo2025EmpiezaEnSabado() {
+        List<List<String>> semanas = CalendarioSemanas.semanasDelMes(3, 2025);
+
+        assertThat(semanas).hasSize(6);
+        assertThat(semanas.get(0)).containsExactly("2025-03-01", "2025-03-02");
+        assertThat(semanas.get(1)).first().isEqualTo("2025-03-03");
+        assertThat(semanas.get(5)).containsExactly("2025-03-31");
+    }
+
+    @Test
+    void semanasCubrenElMesCompletoDeLunesADomingo() {
+        for (int anio = 2024; anio <= 2027; anio++) {
+            for (int mes = 1; mes <= 12; mes++) {
+                List<List<String>> semanas = CalendarioSemanas.semanasDelMes(mes, anio);
+                List<String> dias = new ArrayList<>();
+                semanas.forEach(dias::addAll);
+
+                LocalDate inicioMes = LocalDate.of(anio, mes, 1);
+                assertThat(dias).hasSize(inicioMes.lengthOfMonth());
+                assertThat(dias.get(0)).isEqualTo(inicioMes.toString());
+
+                for (int i = 0; i < semanas.size(); i++) {
+                    List<String> semana = semanas.get(i);
+                    LocalDate inicio = LocalDate.parse(semana.get(0));
+                    LocalDate fin = LocalDate.parse(semana.get(semana.size() - 1));
+                    if (i > 0) {
+                        assertThat(inicio.getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+                    }
+                    if (i < semanas.size() - 1) {
+                        assertThat(fin.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+                    }
+                    assertThat(CalendarioSemanas.inicioSemana(mes, anio, i + 1)).isEqualTo(inicio);
+                    assertThat(CalendarioSemanas.finSemana(mes, anio, i + 1)).isEqualTo(fin);
+                    assertThat(CalendarioSemanas.indiceSemana(fin)).isEqualTo(i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void numeroDeSemanaFueraDeRangoEsRechazado() {
+        assertThatThrownBy(() -> CalendarioSemanas.inicioSemana(3, 2025, 7))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalendarioSemanas.inicioSemana(3, 2025, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
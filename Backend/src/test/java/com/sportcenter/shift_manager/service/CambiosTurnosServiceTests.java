@@ -0,0 +1,117 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.CambiosTurnosDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.dto.TurnoEliminadoDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CambiosTurnosServiceTests extends BaseTurnosTests {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 10);
+    private static final LocalDate FIN = LocalDate.of(2025, 3, 16);
+
+    @Autowired
+    private CambiosTurnosService cambiosTurnosService;
+
+    @Test
+    void sinDesdeSoloDevuelveElToken() {
+        turnoService.saveTurno(turno(INICIO, 9, 13));
+
+        CambiosTurnosDTO cambios = cambiosTurnosService.getCambios(null, INICIO, FIN);
+
+        assertThat(cambios.getToken()).isNotBlank();
+        assertThat(cambios.getCambiados()).isEmpty();
+        assertThat(cambios.getEliminados()).isEmpty();
+        assertThat(cambios.isRecargar()).isFalse();
+    }
+
+    @Test
+    void devuelveAltasEdicionesYBajasPosterioresAlCorte() throws InterruptedException {
+        TurnoDTO intacto = turnoService.saveTurno(turno(INICIO, 9, 13));
+        TurnoDTO editado = turnoService.saveTurno(turno(INICIO.plusDays(1), 9, 13));
+        TurnoDTO eliminado = turnoService.saveTurno(turno(INICIO.plusDays(2), 9, 13));
+        Instant corte = corte();
+
+        TurnoDTO nuevo = turnoService.saveTurno(turno(INICIO.plusDays(3), 9, 13));
+        turnoService.updateTurno(editado.getId(), turno(INICIO.plusDays(1), 10, 14));
+        turnoService.deleteTurno(eliminado.getId());
+
+        CambiosTurnosDTO cambios = cambiosTurnosService.getCambios(corte.toString(), INICIO, FIN);
+
+        assertThat(cambios.getCambiados()).extracting(TurnoDTO::getId)
+                .containsExactlyInAnyOrder(nuevo.getId(), editado.getId())
+                .doesNotContain(intacto.getId());
+        assertThat(cambios.getEliminados()).extracting(TurnoEliminadoDTO::getId).containsExactly(eliminado.getId());
+
+        // El token devuelto sirve como siguiente "desde"
+        assertThat(cambiosTurnosService.getCambios(cambios.getToken(), INICIO, FIN).isRecargar()).isFalse();
+    }
+
+    @Test
+    void moverUnTurnoFueraDelRangoDejaLapidaEnSuFechaAnterior() throws InterruptedException {
+        TurnoDTO turno = turnoService.saveTurno(turno(INICIO, 9, 13));
+        Instant corte = corte();
+
+        turnoService.updateTurno(turno.getId(), turno(FIN.plusDays(1), 9, 13));
+
+        CambiosTurnosDTO semana = cambiosTurnosService.getCambios(corte.toString(), INICIO, FIN);
+        assertThat(semana.getCambiados()).isEmpty();
+        assertThat(semana.getEliminados()).extracting(TurnoEliminadoDTO::getId).containsExactly(turno.getId());
+
+        CambiosTurnosDTO semanaSiguiente = cambiosTurnosService.getCambios(corte.toString(), FIN.plusDays(1), FIN.plusDays(7));
+        assertThat(semanaSiguiente.getCambiados()).extracting(TurnoDTO::getId).containsExactly(turno.getId());
+    }
+
+    @Test
+    void unTokenMasViejoQueLaRetencionPideRecargar() {
+        String desde = Instant.now().minus(CambiosTurnosService.RETENCION_ELIMINADOS).minus(Duration.ofHours(1)).toString();
+
+        assertThat(cambiosTurnosService.getCambios(desde, INICIO, FIN).isRecargar()).isTrue();
+    }
+
+    @Test
+    void tokenOParametrosInvalidosSonRechazados() {
+        assertThatThrownBy(() -> cambiosTurnosService.getCambios("no-es-un-token", INICIO, FIN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cambiosTurnosService.getCambios(null, FIN, INICIO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // El margen del token solo es seguro si ninguna escritura de turnos puede durar más que él
+    @Test
+    void todaEscrituraDeTurnosTieneUnTopeMenorQueElMargenDelToken() {
+        List<Method> escrituras = Arrays.stream(new Class<?>[]{TurnoService.class, ProgramacionService.class})
+                .flatMap(clase -> Arrays.stream(clase.getDeclaredMethods()))
+                .filter(metodo -> metodo.getName().matches("(save|update|delete)Turnos?|copiarSemana|aplicarPlantilla"))
+                .toList();
+
+        assertThat(escrituras).hasSize(6).allSatisfy(metodo -> {
+            Transactional transaccional = metodo.getAnnotation(Transactional.class);
+            assertThat(transaccional).as(metodo.getName()).isNotNull();
+            assertThat(transaccional.timeout()).as(metodo.getName())
+                    .isPositive()
+                    .isLessThan((int) CambiosTurnosService.MARGEN_TOKEN.toSeconds());
+        });
+    }
+
+    // Marca un instante estrictamente posterior a lo ya escrito y anterior a lo que sigue
+    private Instant corte() throws InterruptedException {
+        entityManager.flush();
+        Thread.sleep(5);
+        Instant corte = Instant.now();
+        Thread.sleep(5);
+        return corte;
+    }
+}
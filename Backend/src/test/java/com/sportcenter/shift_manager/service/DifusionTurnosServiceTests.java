@@ -0,0 +1,100 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.LoteEventosTurnoDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DifusionTurnosServiceTests {
+
+    // Miércoles; la semana va del lunes 10 al domingo 16 de marzo de 2025
+    private static final LocalDate FECHA = LocalDate.of(2025, 3, 12);
+
+    private final DifusionTurnosService difusion = new DifusionTurnosService(false);
+
+    @AfterEach
+    void tearDown() {
+        difusion.cerrar();
+    }
+
+    @Test
+    void agrupaPorTurnoYFiltraPorTiendaYSemana() {
+        SuscriptorTurnos suscriptor = difusion.registrar(1L, FECHA);
+
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 100L, 1L, LocalDate.of(2025, 3, 10)));
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 101L, 1L, LocalDate.of(2025, 3, 16)));
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.ELIMINADO, 100L, 1L, LocalDate.of(2025, 3, 10)));
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 102L, 2L, FECHA));
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 103L, 1L, LocalDate.of(2025, 3, 17)));
+
+        LoteEventosTurnoDTO lote = suscriptor.tomarLote();
+        assertThat(lote.isRecargar()).isFalse();
+        assertThat(lote.getEventos()).extracting(EventoTurnoDTO::getTurnoId).containsExactly(101L, 100L);
+        assertThat(lote.getEventos().get(1).getTipo()).isEqualTo(EventoTurnoDTO.ELIMINADO);
+        assertThat(suscriptor.tomarLote()).isNull();
+    }
+
+    @Test
+    void clienteQueNoDaAbastoDescartaEventosYRecibeRecargar() {
+        SuscriptorTurnos suscriptor = difusion.registrar(null, null);
+        for (long id = 1; id <= DifusionTurnosService.LIMITE_PENDIENTES + 1; id++) {
+            difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, id, 1L, FECHA));
+        }
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 999L, 1L, FECHA));
+
+        LoteEventosTurnoDTO lote = suscriptor.tomarLote();
+        assertThat(lote.isRecargar()).isTrue();
+        assertThat(lote.getEventos()).isEmpty();
+
+        // Tras pedir recargar vuelve a recibir eventos normalmente
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 1000L, 1L, FECHA));
+        assertThat(suscriptor.tomarLote().getEventos()).extracting(EventoTurnoDTO::getTurnoId).containsExactly(1000L);
+    }
+
+    @Test
+    void conEnvioEnCursoLosEventosEsperanALaSiguienteVentana() {
+        SuscriptorTurnos suscriptor = difusion.registrar(null, null);
+        suscriptor.enviando.set(true);
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 1L, 1L, FECHA));
+
+        difusion.despachar();
+
+        assertThat(suscriptor.tomarLote().getEventos()).hasSize(1);
+    }
+
+    @Test
+    void envioRechazadoLiberaLaConexionYDevuelveLosEventos() {
+        // Con el pool cerrado se rechaza todo envío, igual que con los HILOS_ENVIO_MAXIMOS ocupados
+        difusion.cerrar();
+        SuscriptorTurnos suscriptor = difusion.registrar(null, null);
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 1L, 1L, FECHA));
+
+        difusion.despachar();
+
+        assertThat(suscriptor.enviando).isFalse();
+        assertThat(suscriptor.tomarLote().getEventos()).extracting(EventoTurnoDTO::getTurnoId).containsExactly(1L);
+    }
+
+    @Test
+    void envioBloqueadoMasDelTiempoMaximoDescartaLaConexion() {
+        SuscriptorTurnos suscriptor = difusion.registrar(null, null);
+        // Como un envío que lleva más de TIEMPO_MAXIMO_ENVIO esperando a que el socket acepte datos
+        suscriptor.enviando.set(true);
+        suscriptor.inicioEnvio = System.nanoTime() - DifusionTurnosService.TIEMPO_MAXIMO_ENVIO.toNanos() - 1;
+
+        difusion.despachar();
+
+        assertThat(difusion.getConexiones()).isZero();
+        assertThat(suscriptor.descartado).isTrue();
+        difusion.alConfirmarTurno(evento(EventoTurnoDTO.GUARDADO, 1L, 1L, FECHA));
+        assertThat(suscriptor.tomarLote()).isNull();
+    }
+
+    private EventoTurnoDTO evento(String tipo, Long turnoId, Long tiendaId, LocalDate fecha) {
+        return new EventoTurnoDTO(tipo, turnoId, 50L, tiendaId, fecha);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.service.ExportacionService.Formato;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportacionServiceTests extends BaseTurnosTests {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private ExportacionService exportacionService;
+
+    @BeforeEach
+    void setUp() {
+        // Tilde y coma para probar la codificación y el escape del CSV
+        colaborador.setNombre("José");
+        empresa.setNombre("Empresa, Export");
+
+        for (int dia = 0; dia < 3; dia++) {
+            turnoService.saveTurno(turno(INICIO.plusDays(dia), 9, 17));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void csvTieneEncabezadoUnaFilaPorTurnoYEscapaComas() {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportacionService.exportarHorasTrabajadas(List.of(colaborador.getId()), INICIO, INICIO.plusDays(6), Formato.CSV, salida);
+
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lineas).hasSize(4);
+        assertThat(lineas[0]).startsWith("\uFEFFColaborador,DNI,Empresa,Tienda,Fecha,Ingreso,Salida,SubTotal");
+        assertThat(lineas[1]).isEqualTo("José,12345678,\"Empresa, Export\",Tienda Test,2025-03-03,09:00,17:00,7.25,21.75");
+    }
+
+    @Test
+    void xlsxSeGeneraEnStreamingConLasMismasFilas() throws Exception {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        exportacionService.exportarTurnosPorTienda(tienda.getId(), INICIO, INICIO.plusDays(6), Formato.XLSX, salida);
+
+        try (XSSFWorkbook libro = new XSSFWorkbook(new ByteArrayInputStream(salida.toByteArray()))) {
+            Sheet hoja = libro.getSheet("Datos");
+            assertThat(hoja.getLastRowNum()).isEqualTo(3);
+            assertThat(hoja.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Colaborador");
+            assertThat(hoja.getRow(1).getCell(7).getNumericCellValue()).isEqualTo(7.25);
+            assertThat(hoja.getRow(3).getCell(8).getNumericCellValue()).isEqualTo(21.75);
+        }
+    }
+
+    @Test
+    void formatoDesconocidoEsUnErrorDeValidacion() {
+        assertThat(Formato.desde(null)).isEqualTo(Formato.XLSX);
+        assertThat(Formato.desde("CSV")).isEqualTo(Formato.CSV);
+        assertThatThrownBy(() -> Formato.desde("pdf"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mesInvalidoDelResumenEsUnErrorDeValidacion() {
+        assertThat(ExportacionService.mesDelResumen(2, 2025)).isEqualTo(YearMonth.of(2025, 2));
+        assertThatThrownBy(() -> ExportacionService.mesDelResumen(13, 2025))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExportacionService.mesDelResumen(0, 2025))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
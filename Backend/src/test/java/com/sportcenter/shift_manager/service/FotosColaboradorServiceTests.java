@@ -0,0 +1,100 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FotosColaboradorServiceTests {
+
+    private static final byte[] IMAGEN = {1, 2, 3};
+
+    @TempDir
+    Path directorio;
+
+    private final ColaboradorRepository colaboradorRepository = mock(ColaboradorRepository.class);
+    private FotosColaboradorService fotos;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (fotos != null) {
+            fotos.cerrar();
+        }
+    }
+
+    @Test
+    void subeLaFotoNuevaYRecienEntoncesEliminaLaAnterior() throws IOException {
+        LocalImageStore store = new LocalImageStore(directorio.toString(), "/fotos/");
+        String anterior = store.subir(IMAGEN, "image/png");
+        fotos = servicio(store);
+        when(colaboradorRepository.completarFoto(eq(1L), eq("s1"), anyString(), eq(Colaborador.FOTO_LISTA))).thenReturn(1);
+
+        fotos.procesar(new SolicitudFoto(1L, "s1", IMAGEN, "image/jpeg", anterior));
+
+        try (var archivos = Files.list(store.getDirectorio())) {
+            assertThat(archivos.map(archivo -> archivo.getFileName().toString())).singleElement()
+                    .satisfies(nombre -> assertThat(nombre).endsWith(".jpg"));
+        }
+        verify(colaboradorRepository).completarFoto(eq(1L), eq("s1"), anyString(), eq(Colaborador.FOTO_LISTA));
+    }
+
+    @Test
+    void siSeAgotanLosIntentosMarcaErrorYConservaLaAnterior() {
+        AtomicInteger llamadas = new AtomicInteger();
+        ImageStore caido = new ImageStore() {
+            @Override
+            public String subir(byte[] contenido, String contentType) throws IOException {
+                llamadas.incrementAndGet();
+                throw new IOException("sin conexión");
+            }
+
+            @Override
+            public void eliminar(String url) {
+                throw new AssertionError("no debe eliminar la foto anterior");
+            }
+        };
+        fotos = servicio(caido);
+
+        fotos.procesar(new SolicitudFoto(1L, "s1", IMAGEN, "image/png", "/fotos/anterior.png"));
+
+        assertThat(llamadas).hasValue(3);
+        verify(colaboradorRepository).marcarFoto(1L, "s1", Colaborador.FOTO_ERROR);
+        verify(colaboradorRepository, never()).completarFoto(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void unaSubidaSuperadaPorOtraMasNuevaSeDescarta() throws IOException {
+        LocalImageStore store = new LocalImageStore(directorio.toString(), "/fotos/");
+        String anterior = store.subir(IMAGEN, "image/png");
+        fotos = servicio(store);
+        when(colaboradorRepository.completarFoto(anyLong(), anyString(), anyString(), anyString())).thenReturn(0);
+
+        fotos.procesar(new SolicitudFoto(1L, "vieja", IMAGEN, "image/png", anterior));
+
+        // Solo queda la anterior: la subida sobrante se borró y la anterior la gestiona la solicitud vigente
+        try (var archivos = Files.list(store.getDirectorio())) {
+            assertThat(archivos).containsExactly(store.getDirectorio().resolve(anterior.substring("/fotos/".length())));
+        }
+    }
+
+    private FotosColaboradorService servicio(ImageStore store) {
+        return new FotosColaboradorService(store, colaboradorRepository, mock(ApplicationEventPublisher.class), 3, 0, false);
+    }
+}
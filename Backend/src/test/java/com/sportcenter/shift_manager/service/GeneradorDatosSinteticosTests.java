@@ -0,0 +1,92 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.ColaboradorRepository;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// El generador corre al arrancar el contexto (ApplicationReadyEvent), sobre la base embebida propia de este contexto
+@DataJpaTest
+@ActiveProfiles("datos-sinteticos")
+@TestPropertySource(properties = {
+        "generador.empresas=2",
+        "generador.tiendas=3",
+        "generador.colaboradores=6",
+        "generador.anios=1",
+        "generador.hasta=2025-03-31",
+        "generador.tamano-lote=200"
+})
+@Import({GeneradorDatosSinteticos.class, FeriadoService.class, VersionMaestros.class, ResumenHorasService.class})
+class GeneradorDatosSinteticosTests {
+
+    @Autowired
+    private GeneradorDatosSinteticos generador;
+
+    @Autowired
+    private TurnoRepository turnoRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private FeriadoService feriadoService;
+
+    @Autowired
+    private ResumenHorasService resumenHorasService;
+
+    @Test
+    void generaHistorialSinSolapamientosYConAcumuladosAlDia() {
+        long generados = turnoRepository.count();
+
+        assertThat(colaboradorRepository.count()).isEqualTo(6);
+        // 6 colaboradores durante un año, descontando descansos y ausencias
+        assertThat(generados).isBetween(6L * 365 / 2, 6L * 365 * 2);
+
+        List<Turno> turnos = turnoRepository.findAll();
+        Map<String, List<Turno>> porColaboradorYDia = turnos.stream()
+                .collect(Collectors.groupingBy(t -> t.getColaborador().getId() + "/" + t.getFecha()));
+        assertThat(porColaboradorYDia.values()).map(List::size).contains(2); // turnos partidos
+        for (List<Turno> dia : porColaboradorYDia.values()) {
+            List<Turno> ordenados = dia.stream().sorted(Comparator.comparing(Turno::getHoraEntrada)).toList();
+            for (int i = 1; i < ordenados.size(); i++) {
+                assertThat(ordenados.get(i).getHoraEntrada()).isAfterOrEqualTo(ordenados.get(i - 1).getHoraSalida());
+            }
+        }
+
+        // Feriados de cada año del historial y turnos marcados en consecuencia
+        assertThat(feriadoService.isFeriado(LocalDate.of(2024, 7, 28))).isTrue();
+        assertThat(turnos).filteredOn(Turno::isEsFeriado)
+                .isNotEmpty()
+                .allSatisfy(t -> assertThat(feriadoService.isFeriado(t.getFecha())).isTrue());
+
+        // Los acumulados diarios coinciden con los turnos insertados
+        long minutosTurnos = turnos.stream().mapToLong(Turno::getMinutosTrabajados).sum();
+        long minutosAcumulados = resumenHorasService.minutosPorColaborador(LocalDate.of(2024, 4, 1), LocalDate.of(2025, 3, 31)).stream()
+                .mapToLong(MinutosTrabajadosDTO::getMinutos).sum();
+        assertThat(minutosAcumulados).isEqualTo(minutosTurnos);
+    }
+
+    @Test
+    void noGeneraNadaSiLaBaseYaTieneColaboradores() {
+        long antes = turnoRepository.count();
+
+        generador.alIniciar();
+
+        assertThat(colaboradorRepository.count()).isEqualTo(6);
+        assertThat(turnoRepository.count()).isEqualTo(antes);
+    }
+}
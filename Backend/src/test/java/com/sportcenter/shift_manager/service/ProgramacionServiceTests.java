@@ -0,0 +1,98 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.EventoTurnoDTO;
+import com.sportcenter.shift_manager.dto.PlantillaSemanaDTO;
+import com.sportcenter.shift_manager.dto.ResultadoProgramacionDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.model.Colaborador;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RecordApplicationEvents
+class ProgramacionServiceTests extends BaseTurnosTests {
+
+    // Semana del lunes 21 al domingo 27 de abril de 2025; la siguiente incluye el feriado del 1 de mayo (jueves)
+    private static final LocalDate LUNES_ORIGEN = LocalDate.of(2025, 4, 21);
+    private static final LocalDate LUNES_DESTINO = LocalDate.of(2025, 4, 28);
+
+    @Autowired
+    private ProgramacionService programacionService;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    private Colaborador deshabilitado;
+
+    @BeforeEach
+    void setUp() {
+        deshabilitado = colaborador("Inactivo", "33333333");
+
+        // Lunes a jueves para los dos colaboradores
+        for (int dia = 0; dia < 4; dia++) {
+            turnoService.saveTurno(turno(colaborador, tienda, LUNES_ORIGEN.plusDays(dia), 9, 17));
+            turnoService.saveTurno(turno(deshabilitado, tienda, LUNES_ORIGEN.plusDays(dia), 9, 17));
+        }
+        deshabilitado.setHabilitado(false);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void copiarSemanaOmiteDeshabilitadosYMarcaFeriados() {
+        ResultadoProgramacionDTO resultado = programacionService.copiarSemana(LUNES_ORIGEN.plusDays(2), LUNES_DESTINO, 4, null);
+
+        assertThat(resultado.getDesde()).isEqualTo(LUNES_DESTINO);
+        assertThat(resultado.getHasta()).isEqualTo(LUNES_DESTINO.plusWeeks(4).minusDays(1));
+        assertThat(resultado.getCreados()).isEqualTo(16);
+        assertThat(resultado.getOmitidosDeshabilitados()).isEqualTo(16);
+
+        entityManager.flush();
+        entityManager.clear();
+        List<TurnoDTO> primeraSemana = turnoService.getTurnosPorSemanaDTO(LUNES_DESTINO.toString());
+        assertThat(primeraSemana).hasSize(4).allMatch(t -> t.getColaboradorId().equals(colaborador.getId()));
+        assertThat(primeraSemana).filteredOn(TurnoDTO::isEsFeriado)
+                .extracting(TurnoDTO::getFecha)
+                .containsExactly(LocalDate.of(2025, 5, 1));
+    }
+
+    @Test
+    void repetirLaCopiaNoDuplicaTurnos() {
+        programacionService.copiarSemana(LUNES_ORIGEN, LUNES_DESTINO, 2, null);
+        ResultadoProgramacionDTO repetida = programacionService.copiarSemana(LUNES_ORIGEN, LUNES_DESTINO, 2, null);
+
+        assertThat(repetida.getCreados()).isZero();
+        assertThat(repetida.getOmitidosExistentes()).isEqualTo(8);
+    }
+
+    @Test
+    void copiarSemanaAvisaCadaTurnoCreadoAlCanalEnVivo() {
+        eventos.clear();
+
+        ResultadoProgramacionDTO resultado = programacionService.copiarSemana(LUNES_ORIGEN, LUNES_DESTINO, 2, null);
+
+        List<EventoTurnoDTO> avisos = eventos.stream(EventoTurnoDTO.class).toList();
+        assertThat(avisos).hasSize(resultado.getCreados())
+                .allMatch(e -> EventoTurnoDTO.GUARDADO.equals(e.getTipo()) && e.getTurnoId() != null)
+                .allMatch(e -> e.getColaboradorId().equals(colaborador.getId()))
+                .allMatch(e -> !e.getFecha().isBefore(LUNES_DESTINO) && e.getFecha().isBefore(LUNES_DESTINO.plusWeeks(2)));
+    }
+
+    @Test
+    void plantillaGuardadaSeAplicaAVariasSemanas() {
+        PlantillaSemanaDTO plantilla = programacionService.guardarPlantilla("Semana base", LUNES_ORIGEN, null);
+        assertThat(plantilla.getTotalTurnos()).isEqualTo(8);
+        assertThat(programacionService.getPlantillas()).extracting(PlantillaSemanaDTO::getNombre).containsExactly("Semana base");
+
+        ResultadoProgramacionDTO resultado = programacionService.aplicarPlantilla(plantilla.getId(), LUNES_DESTINO, 3);
+        assertThat(resultado.getCreados()).isEqualTo(12);
+        assertThat(resultado.getOmitidosDeshabilitados()).isEqualTo(12);
+    }
+}
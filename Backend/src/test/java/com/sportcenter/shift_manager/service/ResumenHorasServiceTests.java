@@ -0,0 +1,142 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.MinutosTrabajadosDTO;
+import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.repository.ResumenHorasDiaRepository;
+import com.sportcenter.shift_manager.repository.ResumenHorasMesRepository;
+import com.sportcenter.shift_manager.repository.ResumenHorasSemanaRepository;
+import db.migration.common.V13__minutos_trabajados_pendientes;
+import db.migration.common.V14__reconstruir_resumenes_de_horas;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumenHorasServiceTests extends BaseTurnosTests {
+
+    // 1 de mayo es feriado en los datos iniciales de FeriadoService
+    private static final LocalDate FERIADO = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private ResumenHorasService resumenHorasService;
+
+    @Autowired
+    private ResumenHorasDiaRepository diaRepository;
+
+    @Autowired
+    private ResumenHorasSemanaRepository semanaRepository;
+
+    @Autowired
+    private ResumenHorasMesRepository mesRepository;
+
+    @Test
+    void acumuladosSiguenAltasCambiosYBajas() {
+        // Turno partido en feriado: un solo día feriado trabajado, 4 h + 4 h
+        TurnoDTO manana = turnoService.saveTurno(turno(FERIADO, 8, 12));
+        turnoService.saveTurno(turno(FERIADO, 15, 19));
+        // Turno normal con descuento de almuerzo: 8 h - 45 min
+        TurnoDTO normal = turnoService.saveTurno(turno(LocalDate.of(2025, 5, 2), 9, 17));
+
+        ResumenMensualDTO resumen = resumenDeMayo();
+        assertThat(resumen.getTotalHorasMes()).isEqualTo(15.25);
+        assertThat(resumen.getDiasFeriadosTrabajados()).isEqualTo(1);
+        assertThat(resumen.getHorasEnFeriados()).isEqualTo(8.0);
+
+        // Mover la mañana del feriado a un día normal: el feriado sigue trabajado por la tarde
+        turnoService.updateTurno(manana.getId(), turno(LocalDate.of(2025, 5, 5), 8, 12));
+        resumen = resumenDeMayo();
+        assertThat(resumen.getTotalHorasMes()).isEqualTo(15.25);
+        assertThat(resumen.getDiasFeriadosTrabajados()).isEqualTo(1);
+        assertThat(resumen.getHorasEnFeriados()).isEqualTo(4.0);
+
+        turnoService.deleteTurno(normal.getId());
+        resumen = resumenDeMayo();
+        assertThat(resumen.getTotalHorasMes()).isEqualTo(8.0);
+        assertThat(resumen.getTurnos()).isNull();
+    }
+
+    @Test
+    void filasCreadasPorOtraTransaccionSeSumanSinViolarLaClaveUnica() {
+        LocalDate fecha = LocalDate.of(2025, 5, 2);
+        // Como si otra transacción hubiera creado las filas entre nuestro UPDATE y nuestro INSERT
+        assertThat(diaRepository.crearSiFalta(colaborador.getId(), fecha)).isEqualTo(1);
+        assertThat(semanaRepository.crearSiFalta(colaborador.getId(), 2025, 18)).isEqualTo(1);
+        assertThat(mesRepository.crearSiFalta(colaborador.getId(), 2025, 5)).isEqualTo(1);
+        assertThat(diaRepository.crearSiFalta(colaborador.getId(), fecha)).isZero();
+        assertThat(semanaRepository.crearSiFalta(colaborador.getId(), 2025, 18)).isZero();
+        assertThat(mesRepository.crearSiFalta(colaborador.getId(), 2025, 5)).isZero();
+
+        turnoService.saveTurno(turno(fecha, 9, 17));
+
+        assertThat(resumenDeMayo().getTotalHorasMes()).isEqualTo(7.25);
+        assertThat(turnoService.getResumenMensualPorColaboradores(List.of(colaborador.getId()), 5, 2025, false)).hasSize(1);
+    }
+
+    @Test
+    void lasMigracionesRellenanMinutosYReconstruyenLosAcumuladosComoElServicio() {
+        turnoService.saveTurnos(List.of(
+                turno(FERIADO, 8, 12),
+                turno(FERIADO, 15, 19),
+                turno(LocalDate.of(2025, 5, 2), 9, 17)), false);
+        entityManager.flush();
+
+        // Como una base anterior a V4 y V5: turnos sin minutos y acumulados vacíos
+        entityManager.getEntityManager().unwrap(Session.class).doWork(conexion -> {
+            try (Statement sql = conexion.createStatement()) {
+                sql.executeUpdate("update turno set minutos_trabajados = null");
+                sql.executeUpdate("delete from resumen_horas_dia");
+                sql.executeUpdate("delete from resumen_horas_semana");
+                sql.executeUpdate("delete from resumen_horas_mes");
+            }
+            try {
+                new V13__minutos_trabajados_pendientes().migrate(contexto(conexion));
+                new V14__reconstruir_resumenes_de_horas().migrate(contexto(conexion));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        ResumenMensualDTO resumen = resumenDeMayo();
+        assertThat(resumen.getTotalHorasMes()).isEqualTo(15.25);
+        assertThat(resumen.getDiasFeriadosTrabajados()).isEqualTo(1);
+        assertThat(resumen.getHorasEnFeriados()).isEqualTo(8.0);
+        assertThat(resumenHorasService.minutosSemanaIso(FERIADO))
+                .extracting(MinutosTrabajadosDTO::getMinutos)
+                .containsExactly(915L);
+        Object minutosEnTurnos = entityManager.getEntityManager()
+                .createNativeQuery("select sum(minutos_trabajados) from turno where minutos_trabajados is not null")
+                .getSingleResult();
+        assertThat(((Number) minutosEnTurnos).intValue()).isEqualTo(915);
+    }
+
+    private ResumenMensualDTO resumenDeMayo() {
+        entityManager.flush();
+        entityManager.clear();
+        List<ResumenMensualDTO> resumenes = turnoService.getResumenMensualPorColaboradores(List.of(colaborador.getId()), 5, 2025, false);
+        assertThat(resumenes).hasSize(1);
+        return resumenes.get(0);
+    }
+
+    private static Context contexto(Connection conexion) {
+        return new Context() {
+            @Override
+            public Configuration getConfiguration() {
+                return null;
+            }
+
+            @Override
+            public Connection getConnection() {
+                return conexion;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurnoServiceEtagTests extends BaseTurnosTests {
+
+    // Marzo 2025: la semana 1 va del sábado 1 al domingo 2
+    private static final LocalDate FECHA = LocalDate.of(2025, 3, 12);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VersionMaestros versionMaestros;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void elEtagSeCalculaConUnaConsultaYNoCambiaSinEscrituras() {
+        turnoService.saveTurno(turno(FECHA, 9, 13));
+
+        statistics.clear();
+        String etag = turnoService.getEtagMensual(3, 2025);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(turnoService.getEtagMensual(3, 2025)).isEqualTo(etag);
+    }
+
+    @Test
+    void altaEdicionYBajaCambianElEtagDelMes() {
+        String vacio = turnoService.getEtagMensual(3, 2025);
+
+        TurnoDTO creado = turnoService.saveTurno(turno(FECHA, 9, 13));
+        String trasAlta = turnoService.getEtagMensual(3, 2025);
+        assertThat(trasAlta).isNotEqualTo(vacio);
+
+        // Misma duración y mismo día: solo el contador de cambios lo distingue
+        turnoService.updateTurno(creado.getId(), turno(FECHA, 10, 14));
+        String trasEdicion = turnoService.getEtagMensual(3, 2025);
+        assertThat(trasEdicion).isNotEqualTo(trasAlta);
+
+        turnoService.deleteTurno(creado.getId());
+        assertThat(turnoService.getEtagMensual(3, 2025)).isNotEqualTo(trasEdicion).isNotEqualTo(vacio);
+    }
+
+    @Test
+    void escriturasFueraDelRangoNoInvalidanLaSemana() {
+        turnoService.saveTurno(turno(FECHA, 9, 13));
+        String semana = turnoService.getEtagSemanaEstricta(3, 2025, 3);
+
+        turnoService.saveTurno(turno(LocalDate.of(2025, 3, 25), 9, 13));
+
+        assertThat(turnoService.getEtagSemanaEstricta(3, 2025, 3)).isEqualTo(semana);
+        assertThat(turnoService.getEtagSemanaEstricta(3, 2025, 5)).isNotEqualTo(semana);
+    }
+
+    @Test
+    void laGeneracionDeMaestrosSeConfirmaOSeDescartaConSuTransaccion() {
+        String antes = turnoService.getEtagMensual(3, 2025);
+
+        // La transacción que cambia un dato maestro ya ve su propia generación
+        versionMaestros.incrementar();
+        assertThat(turnoService.getEtagMensual(3, 2025)).isNotEqualTo(antes);
+
+        // El test corre dentro de una transacción que nunca se confirma: al deshacerla se pierde el incremento
+        TestTransaction.end();
+        assertThat(turnoService.getEtagMensual(3, 2025)).isEqualTo(antes);
+    }
+
+    @Test
+    void elEtagUsaLaGeneracionGuardadaEnLaBase() {
+        String antes = turnoService.getEtagMensual(3, 2025);
+
+        // Como si otra instancia de la aplicación hubiera cambiado un dato maestro
+        entityManager.getEntityManager()
+                .createNativeQuery("update generacion_maestros set generacion = generacion + 1")
+                .executeUpdate();
+
+        assertThat(turnoService.getEtagMensual(3, 2025)).isNotEqualTo(antes);
+    }
+}
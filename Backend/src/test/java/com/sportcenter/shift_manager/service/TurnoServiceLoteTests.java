@@ -0,0 +1,123 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.ResultadoLoteTurnosDTO;
+import com.sportcenter.shift_manager.dto.ResultadoTurnoLoteDTO;
+import com.sportcenter.shift_manager.dto.ResumenMensualDTO;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurnoServiceLoteTests extends BaseTurnosTests {
+
+    // 1 de mayo es feriado en los datos iniciales de FeriadoService
+    private static final LocalDate FERIADO = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TurnoRepository turnoRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void loteAcumulaIgualQueAltasIndividuales() {
+        // Turno partido en feriado y un turno normal, en un solo lote
+        ResultadoLoteTurnosDTO resultado = turnoService.saveTurnos(List.of(
+                turno(FERIADO, 8, 12),
+                turno(FERIADO, 15, 19),
+                turno(LocalDate.of(2025, 5, 2), 9, 17)), false);
+
+        assertThat(resultado.isConfirmado()).isTrue();
+        assertThat(resultado.getCreados()).isEqualTo(3);
+        assertThat(resultado.getResultados()).extracting(ResultadoTurnoLoteDTO::getEstado)
+                .containsOnly(ResultadoTurnoLoteDTO.CREADO);
+
+        ResumenMensualDTO resumen = resumenDeMayo();
+        assertThat(resumen.getTotalHorasMes()).isEqualTo(15.25);
+        assertThat(resumen.getDiasFeriadosTrabajados()).isEqualTo(1);
+        assertThat(resumen.getHorasEnFeriados()).isEqualTo(8.0);
+    }
+
+    @Test
+    void loteConUnTurnoInvalidoNoGuardaNadaSalvoQueSeaParcial() {
+        List<Turno> lote = List.of(turno(LocalDate.of(2025, 5, 2), 9, 17), turno(LocalDate.of(2025, 5, 3), 17, 9));
+
+        ResultadoLoteTurnosDTO todoONada = turnoService.saveTurnos(lote, false);
+        assertThat(todoONada.isConfirmado()).isFalse();
+        assertThat(todoONada.getResultados()).extracting(ResultadoTurnoLoteDTO::getEstado)
+                .containsExactly(ResultadoTurnoLoteDTO.OMITIDO, ResultadoTurnoLoteDTO.ERROR);
+        assertThat(turnoRepository.count()).isZero();
+
+        List<Turno> otroLote = List.of(turno(LocalDate.of(2025, 5, 2), 9, 17), turno(LocalDate.of(2025, 5, 3), 17, 9));
+        ResultadoLoteTurnosDTO parcial = turnoService.saveTurnos(otroLote, true);
+        assertThat(parcial.isConfirmado()).isTrue();
+        assertThat(parcial.getCreados()).isEqualTo(1);
+        assertThat(parcial.getFallidos()).isEqualTo(1);
+        assertThat(resumenDeMayo().getTotalHorasMes()).isEqualTo(7.25);
+    }
+
+    @Test
+    void unElementoNuloSeInformaComoErrorDelLote() {
+        // [{...}, null] en el JSON del lote
+        List<Turno> lote = Arrays.asList(turno(LocalDate.of(2025, 5, 2), 9, 17), null);
+
+        ResultadoLoteTurnosDTO todoONada = turnoService.saveTurnos(lote, false);
+        assertThat(todoONada.isConfirmado()).isFalse();
+        assertThat(todoONada.getResultados()).extracting(ResultadoTurnoLoteDTO::getEstado)
+                .containsExactly(ResultadoTurnoLoteDTO.OMITIDO, ResultadoTurnoLoteDTO.ERROR);
+        assertThat(todoONada.getResultados().get(1).getError()).isEqualTo("El turno no puede estar vacío");
+        assertThat(turnoRepository.count()).isZero();
+
+        ResultadoLoteTurnosDTO parcial = turnoService.saveTurnos(Arrays.asList(null, turno(LocalDate.of(2025, 5, 2), 9, 17)), true);
+        assertThat(parcial.getCreados()).isEqualTo(1);
+        assertThat(parcial.getResultados()).extracting(ResultadoTurnoLoteDTO::getEstado)
+                .containsExactly(ResultadoTurnoLoteDTO.ERROR, ResultadoTurnoLoteDTO.CREADO);
+    }
+
+    @Test
+    void losInsertsDelLoteSalenEnLotesJdbc() {
+        // 40 turnos de media hora el mismo día: los acumulados tocan una sola fila de día, semana y mes
+        List<Turno> lote = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Turno turno = turno(LocalDate.of(2025, 5, 2), 0, 1);
+            turno.setHoraEntrada(LocalTime.MIDNIGHT.plusMinutes(30L * i));
+            turno.setHoraSalida(LocalTime.MIDNIGHT.plusMinutes(30L * (i + 1)));
+            lote.add(turno);
+        }
+
+        statistics.clear();
+        assertThat(turnoService.saveTurnos(lote, false).getCreados()).isEqualTo(40);
+        entityManager.flush();
+
+        // Uno a uno, cada INSERT prepararía su propia sentencia
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(40);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+    }
+
+    private ResumenMensualDTO resumenDeMayo() {
+        entityManager.flush();
+        entityManager.clear();
+        List<ResumenMensualDTO> resumenes = turnoService.getResumenMensualPorColaboradores(List.of(colaborador.getId()), 5, 2025, false);
+        assertThat(resumenes).hasSize(1);
+        return resumenes.get(0);
+    }
+}
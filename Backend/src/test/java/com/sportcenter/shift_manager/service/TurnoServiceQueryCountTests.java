@@ -0,0 +1,144 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.PaginaTurnosDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.model.Colaborador;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnoServiceQueryCountTests extends BaseTurnosTests {
+
+    private static final LocalDate INICIO_MES = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TurnoRepository turnoRepository;
+
+    private Statistics statistics;
+    private final List<Long> colaboradoresIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Varios colaboradores con varios turnos: sin fetch join esto generaría N+1
+        for (int i = 0; i < 5; i++) {
+            Colaborador deLaTienda = i == 0 ? colaborador : colaborador("Colab" + i, String.format("%08d", i));
+            colaboradoresIds.add(deLaTienda.getId());
+
+            for (int dia = 0; dia < 10; dia++) {
+                turnoService.saveTurno(turno(deLaTienda, tienda, INICIO_MES.plusDays(dia), 9, 17));
+            }
+        }
+
+        // Vaciar el contexto de persistencia para que las lecturas vayan a la base de datos
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void getTurnosMensualesUsaUnaSolaConsulta() {
+        assertThat(turnoService.getTurnosMensuales(3, 2025)).hasSize(50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTurnosPorSemanaEstrictaUsaListadoMasAgregado() {
+        // Semana 2 de marzo 2025: lunes 3 al domingo 9
+        assertThat(turnoService.getTurnosPorSemanaEstricta(3, 2025, 2)).hasSize(35);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getTurnosMensualesPorColaboradorUsaUnaSolaConsulta() {
+        assertThat(turnoService.getTurnosMensualesPorColaborador(colaboradoresIds.get(0), 3, 2025)).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getColaboradoresPorTiendaYRangoFechasUsaListadoMasAgregado() {
+        assertThat(turnoService.getColaboradoresPorTiendaYRangoFechas(tienda.getId(), "2025-03-01", "2025-03-31")).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getHorasTrabajadasPorColaboradoresUsaListadoMasAgregado() {
+        assertThat(turnoService.getHorasTrabajadasPorColaboradores(colaboradoresIds, "2025-03-01", "2025-03-31")).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void horasTotalesSeAgreganEnLaBaseDeDatosConLaReglaDelAlmuerzo() {
+        // 10 turnos de 09:00 a 17:00 por colaborador: 8 h - 45 min de almuerzo = 7.25 h cada uno
+        List<TurnoDTO> turnos = turnoService.getHorasTrabajadasPorColaboradores(colaboradoresIds, "2025-03-01", "2025-03-31");
+        assertThat(turnos).allSatisfy(turno -> {
+            assertThat(turno.getHorasTrabajadas()).isEqualTo(7.25);
+            assertThat(turno.getHorasTotalesSemana()).isEqualTo(72.5);
+        });
+    }
+
+    @Test
+    void resumenMensualDeTodosLosColaboradoresUsaConsultasConstantes() {
+        // Nombres, acumulados mensuales y detalle de turnos: tres consultas sin importar cuántos colaboradores haya
+        assertThat(turnoService.getResumenMensualPorColaboradores(List.of(), 3, 2025)).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void historialPorCursorRecorreTodosLosTurnosSinRepetirConUnaConsultaPorPagina() {
+        Long colaboradorId = colaboradoresIds.get(0);
+        List<TurnoDTO> recorridos = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaTurnosDTO pagina = turnoService.getTurnosByColaboradorId(colaboradorId, 4, cursor);
+            recorridos.addAll(pagina.getTurnos());
+            cursor = pagina.getSiguienteCursor();
+            paginas++;
+        } while (cursor != null);
+
+        // 10 turnos en páginas de 4: 4 + 4 + 2, del más reciente al más antiguo
+        assertThat(paginas).isEqualTo(3);
+        assertThat(recorridos).extracting(TurnoDTO::getFecha)
+                .containsExactlyElementsOf(INICIO_MES.plusDays(9).datesUntil(INICIO_MES.minusDays(1), Period.ofDays(-1)).toList());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findersDeEntidadesTraenLasAsociacionesEnUnaSolaConsulta() {
+        // Los usa ProgramacionService al copiar semanas y guardar plantillas
+        List<Turno> semana = turnoRepository.findByFechaBetween(INICIO_MES, INICIO_MES.plusDays(6));
+        List<Turno> deLaTienda = turnoRepository.findByTienda_IdAndFechaBetweenOrderByFechaAsc(tienda.getId(), INICIO_MES, INICIO_MES.plusDays(6));
+
+        assertThat(semana).hasSize(35);
+        assertThat(deLaTienda).hasSize(35);
+        for (Turno turno : semana) {
+            assertThat(turno.getColaborador().getEmpresa().getNombre()).isEqualTo("Empresa Test");
+            assertThat(turno.getTienda().getNombre()).isEqualTo("Tienda Test");
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void historialConCursorInvalidoLanzaIllegalArgumentException() {
+        assertThatThrownBy(() -> turnoService.getTurnosByColaboradorId(colaboradoresIds.get(0), 10, "no-es-un-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.ResultadoLoteTurnosDTO;
+import com.sportcenter.shift_manager.dto.ResultadoTurnoLoteDTO;
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.exception.ConflictoTurnoException;
+import com.sportcenter.shift_manager.model.Tienda;
+import com.sportcenter.shift_manager.model.Turno;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnoServiceSolapamientoTests extends BaseTurnosTests {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 3, 3);
+
+    private Tienda otraTienda;
+
+    @BeforeEach
+    void setUp() {
+        otraTienda = tienda("Tienda B");
+    }
+
+    @Test
+    void noSePuedeProgramarAlColaboradorEnDosTiendasALaVez() {
+        turnoService.saveTurno(turno(tienda, 8, 12));
+
+        assertThatThrownBy(() -> turnoService.saveTurno(turno(otraTienda, 11, 15)))
+                .isInstanceOf(ConflictoTurnoException.class);
+        // Contiguo: termina 12:00, empieza 12:00
+        assertThat(turnoService.saveTurno(turno(otraTienda, 12, 15)).getId()).isNotNull();
+    }
+
+    @Test
+    void editarUnTurnoNoChocaConsigoMismo() {
+        TurnoDTO manana = turnoService.saveTurno(turno(tienda, 8, 12));
+        turnoService.saveTurno(turno(tienda, 15, 19));
+
+        assertThat(turnoService.updateTurno(manana.getId(), turno(tienda, 9, 13)).getHoraSalida()).isEqualTo(LocalTime.of(13, 0));
+        assertThatThrownBy(() -> turnoService.updateTurno(manana.getId(), turno(tienda, 9, 16)))
+                .isInstanceOf(ConflictoTurnoException.class);
+    }
+
+    @Test
+    void loteDetectaSolapamientosContraLaBaseYDentroDelLote() {
+        turnoService.saveTurno(turno(tienda, 8, 12));
+
+        ResultadoLoteTurnosDTO resultado = turnoService.saveTurnos(List.of(
+                turno(otraTienda, 10, 11),
+                turno(tienda, 14, 18),
+                turno(otraTienda, 17, 20)), true);
+
+        assertThat(resultado.getResultados()).extracting(ResultadoTurnoLoteDTO::getEstado)
+                .containsExactly(ResultadoTurnoLoteDTO.ERROR, ResultadoTurnoLoteDTO.CREADO, ResultadoTurnoLoteDTO.ERROR);
+        assertThat(resultado.getResultados().get(2).getError()).contains("mismo lote");
+        assertThat(turnoService.getConflictosDelMes(3, 2025)).isEmpty();
+    }
+
+    private Turno turno(Tienda tienda, int horaEntrada, int horaSalida) {
+        return turno(colaborador, tienda, FECHA, horaEntrada, horaSalida);
+    }
+}
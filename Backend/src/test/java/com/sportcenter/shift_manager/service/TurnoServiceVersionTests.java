@@ -0,0 +1,81 @@
+package com.sportcenter.shift_manager.service;
+
+import com.sportcenter.shift_manager.dto.TurnoDTO;
+import com.sportcenter.shift_manager.exception.ConflictoVersionException;
+import com.sportcenter.shift_manager.model.Turno;
+import com.sportcenter.shift_manager.repository.TurnoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TurnoServiceVersionTests extends BaseTurnosTests {
+
+    private static final LocalDate FECHA = LocalDate.of(2025, 3, 4);
+
+    @Autowired
+    private TurnoRepository turnoRepository;
+
+    @Test
+    void altaYEdicionDevuelvenVersionYMarcasDeTiempo() {
+        TurnoDTO creado = turnoService.saveTurno(turno(9, 13, null));
+        assertThat(creado.getVersion()).isZero();
+        assertThat(creado.getFechaActualizacion()).isNotNull();
+
+        TurnoDTO editado = turnoService.updateTurno(creado.getId(), turno(10, 14, creado.getVersion()));
+        assertThat(editado.getVersion()).isEqualTo(1);
+        assertThat(editado.getFechaActualizacion()).isAfterOrEqualTo(creado.getFechaActualizacion());
+
+        Turno guardado = turnoRepository.findById(creado.getId()).orElseThrow();
+        assertThat(guardado.getFechaCreacion()).isNotNull();
+    }
+
+    @Test
+    void editarUnaVersionViejaDevuelveElEstadoActual() {
+        TurnoDTO creado = turnoService.saveTurno(turno(9, 13, null));
+        turnoService.updateTurno(creado.getId(), turno(10, 14, creado.getVersion()));
+
+        // Un segundo supervisor guarda con la versión que leyó antes del cambio
+        assertThatThrownBy(() -> turnoService.updateTurno(creado.getId(), turno(8, 12, creado.getVersion())))
+                .isInstanceOfSatisfying(ConflictoVersionException.class, ex -> {
+                    TurnoDTO actual = (TurnoDTO) ex.getActual();
+                    assertThat(actual.getVersion()).isEqualTo(1);
+                    assertThat(actual.getHoraEntrada()).isEqualTo(LocalTime.of(10, 0));
+                });
+    }
+
+    @Test
+    void sinVersionElUltimoEnGuardarGana() {
+        TurnoDTO creado = turnoService.saveTurno(turno(9, 13, null));
+        turnoService.updateTurno(creado.getId(), turno(10, 14, null));
+
+        assertThat(turnoService.updateTurno(creado.getId(), turno(8, 12, null)).getHoraEntrada()).isEqualTo(LocalTime.of(8, 0));
+    }
+
+    @Test
+    void hibernateRechazaUnUpdateConVersionVieja() {
+        TurnoDTO creado = turnoService.saveTurno(turno(9, 13, null));
+        entityManager.flush();
+        entityManager.clear();
+        Turno copiaVieja = turnoRepository.findById(creado.getId()).orElseThrow();
+        entityManager.detach(copiaVieja);
+
+        turnoService.updateTurno(creado.getId(), turno(10, 14, null));
+        entityManager.clear();
+
+        copiaVieja.setHoraSalida(LocalTime.of(15, 0));
+        assertThatThrownBy(() -> turnoRepository.saveAndFlush(copiaVieja))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    private Turno turno(int entrada, int salida, Long version) {
+        Turno turno = turno(FECHA, entrada, salida);
+        turno.setVersion(version);
+        return turno;
+    }
+}
@@ -2,6 +2,7 @@ import { CommonModule } from '@angular/common';
 import { Component, Input } from '@angular/core';
 import * as XLSX from 'xlsx';
 import { saveAs } from 'file-saver';
+import { Observable } from 'rxjs';
 
 export interface ExportColumn {
   key: string;
@@ -28,10 +29,20 @@ export class ExportExcelComponent {
   @Input() columns: ExportColumn[] = [];
   @Input() fileName: string = 'reporte';
   @Input() disabled: boolean = false;
+  // Si se indica, el archivo lo genera el backend y aquí solo se descarga
+  @Input() descarga?: () => Observable<Blob>;
 
   exportExcel(): void {
     if (!this.data || this.data.length === 0) return;
 
+    if (this.descarga) {
+      this.descarga().subscribe({
+        next: (blob) => saveAs(blob, `${this.fileName}.xlsx`),
+        error: (err) => console.error('❌ Error al descargar el Excel:', err)
+      });
+      return;
+    }
+
     // 🔹 1. Preparar encabezados y datos
     const headers = this.columns.map(col => col.label);
     const worksheetData = [
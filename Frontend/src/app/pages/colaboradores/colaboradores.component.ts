@@ -1,5 +1,5 @@
 import { ModalService } from './../../services/modal.service';
-import { Component, ElementRef, OnInit, ViewChild } from '@angular/core';
+import { Component, ElementRef, OnDestroy, OnInit, ViewChild } from '@angular/core';
 import {
   FormBuilder,
   FormGroup,
@@ -26,7 +26,7 @@ import { AgregarPuestoModalComponent } from './agregar-puesto-modal/agregar-pues
   templateUrl: './colaboradores.component.html',
   styleUrls: ['./colaboradores.component.css'],
 })
-export default class ColaboradoresComponent implements OnInit {
+export default class ColaboradoresComponent implements OnInit, OnDestroy {
   isTableLoading: boolean = true;  // Controla el estado de carga de la tabla
 
   colaboradores: Colaborador[] = [];
@@ -36,6 +36,9 @@ export default class ColaboradoresComponent implements OnInit {
   isPhotoLoading: boolean = false; // Bandera para simular la carga de la foto
 
   selectedColaboradorId: number | null = null;
+  selectedColaboradorVersion: number | undefined;
+  private consultaFotos?: ReturnType<typeof setTimeout>; // Próxima consulta de fotos pendientes
+  private intentosFotosPendientes = 0;
   selectedEmpresaId: number | null = null; // Propiedad agregada
 
   colaboradoresHabilitados: Colaborador[] = [];
@@ -93,6 +96,10 @@ export default class ColaboradoresComponent implements OnInit {
     this.puestoService.getPuestos().subscribe(puestos => this.puestos = puestos); // Cargar puestos al inicio
   }
 
+  ngOnDestroy(): void {
+    clearTimeout(this.consultaFotos);
+  }
+
   validateForm(): void {
     this.errorMessage = null; // Reinicia mensaje de error
     for (const controlName in this.colaboradorForm.controls) {
@@ -203,6 +210,7 @@ export default class ColaboradoresComponent implements OnInit {
         this.colaboradoresDeshabilitados = this.colaboradores.filter(
           (c) => !c.habilitado
         );
+        this.consultarFotosPendientes();
         this.isTableLoading = false;  // Desactivar loading
       },
       error: () => {
@@ -268,6 +276,7 @@ addColaborador(): void {
   editColaborador(colaborador: Colaborador): void {
     this.isEditing = true;
     this.selectedColaboradorId = colaborador.id || null;
+    this.selectedColaboradorVersion = colaborador.version;
     this.openModal();
 
     this.colaboradorForm.patchValue({
@@ -293,7 +302,8 @@ addColaborador(): void {
 
       const colaborador: Colaborador = {
         ...this.colaboradorForm.value,
-        id: this.selectedColaboradorId
+        id: this.selectedColaboradorId,
+        version: this.selectedColaboradorVersion
       };
 
       const file = this.colaboradorForm.get('foto')?.value;
@@ -309,7 +319,11 @@ addColaborador(): void {
           this.clearImageCache();
         },
         error: (err) => {
-          this.errorMessage = err.error?.message || 'Error al actualizar colaborador.';
+          // 409: otro usuario guardó antes; el cuerpo trae el mensaje y el estado actual
+          this.errorMessage = (typeof err.error === 'string' ? err.error : err.error?.mensaje ?? err.error?.message) || 'Error al actualizar colaborador.';
+          if (err.status === 409) {
+            this.getColaboradores();
+          }
           this.isLoading = false;
         }
       });
@@ -318,6 +332,19 @@ addColaborador(): void {
     }
   }
 
+  // Las fotos se suben en segundo plano: mientras alguna siga pendiente se vuelve a consultar la lista
+  private consultarFotosPendientes(): void {
+    clearTimeout(this.consultaFotos);
+    if (!this.colaboradores.some((c) => c.fotoEstado === 'PENDIENTE')) {
+      this.intentosFotosPendientes = 0;
+      return;
+    }
+    if (this.intentosFotosPendientes < 5) {
+      this.intentosFotosPendientes++;
+      this.consultaFotos = setTimeout(() => this.getColaboradores(), 3000);
+    }
+  }
+
   // Método para limpiar la caché de la imagen
   clearImageCache(): void {
     this.colaboradores.forEach((colaborador) => {
@@ -235,7 +235,7 @@ export class ColaboradorProfileComponent implements OnInit {
   loadStatistics(colaboradorId: number): void {
     const colaboradores = [colaboradorId];
     forkJoin({
-      turnos: this.turnoService.getTurnosByColaboradorId(colaboradorId),
+      turnos: this.turnoService.getTurnosByColaboradorId(colaboradorId, 5),
       horasTrabajadas: this.reporteService.getHorasTrabajadas(this.fechaInicio, this.fechaFin, colaboradores),
       turnosFeriados: this.reporteService.getTurnosFeriados(this.fechaInicio, this.fechaFin, colaboradores)
     }).subscribe({
@@ -36,6 +36,9 @@ export class HorasTrabajadasComponent implements OnInit {
   empresaSeleccionada: number | 'all' = 'all';
   estadoSeleccionado: 'all' | true | false = 'all';
 
+  // Excel generado en el servidor con los mismos filtros del reporte
+  descargarExcel = () => this.reporteService.exportarHorasTrabajadas(this.fechaInicio, this.fechaFin, this.colaboradoresSeleccionados);
+
   constructor(
     private reporteService: ReporteService,
     private calendarioService: CalendarioService,
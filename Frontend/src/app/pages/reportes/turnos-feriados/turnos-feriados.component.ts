@@ -35,6 +35,9 @@ export class TurnosFeriadosComponent implements OnInit {
   empresaSeleccionada: number | 'all' = 'all';
   estadoSeleccionado: 'all' | true | false = 'all';
 
+  // Excel generado en el servidor con los mismos filtros del reporte
+  descargarExcel = () => this.reporteService.exportarTurnosFeriados(this.fechaInicio, this.fechaFin, this.colaboradoresSeleccionados);
+
   constructor(
     private reporteService: ReporteService,
     private calendarioService: CalendarioService,
@@ -152,6 +152,7 @@ export class TurnoModalComponent {
       horaSalida: this.turnoActual.horaSalida,
       empresa: { id: this.turnoActual.empresaId! },
       tienda: { id: Number(this.turnoActual.tiendaId) },
+      version: this.turnoActual.version,
     };
 
     const operacion = this.turnoActual.id
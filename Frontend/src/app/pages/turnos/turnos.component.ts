@@ -7,6 +7,7 @@ import {
   Output,
   EventEmitter,
   AfterViewChecked,
+  OnDestroy,
 } from '@angular/core';
 
 // -------------- Service Imports --------------
@@ -29,7 +30,7 @@ import {
 import { es } from 'date-fns/locale'; // Importación de la localización para español
 
 // -------------- RxJS Imports --------------
-import { BehaviorSubject, combineLatest, map, Observable, of, Subscription, tap} from 'rxjs';
+import { BehaviorSubject, combineLatest, map, Observable, of, Subscription, switchMap, tap} from 'rxjs';
 
 // -------------- Angular Modules Imports --------------
 import { CommonModule } from '@angular/common';
@@ -58,7 +59,7 @@ import { TurnoModalComponent } from './turno-modal/turno-modal.component'; // Nu
   styleUrls: ['./turnos.component.css'],
   imports: [CommonModule, FormsModule, HeaderComponent, WeeklyViewComponent, MonthlyViewComponent, TurnoModalComponent, FilterBarComponent],
 })
-export default class TurnosComponent implements OnInit, AfterViewChecked {
+export default class TurnosComponent implements OnInit, AfterViewChecked, OnDestroy {
   //! Variables de estado
   feriados: Feriado[] = []; // Lista de feriados
   isLoading$!: Observable<boolean>;
@@ -115,7 +116,10 @@ export default class TurnosComponent implements OnInit, AfterViewChecked {
 
   private turnosSubscription?: Subscription;
   private turnosMensualesSubscription?: Subscription;
+  private eventosSubscription?: Subscription; // Canal en vivo de la semana en pantalla
   private needsTooltipInit: boolean = false; // Bandera para inicializar tooltips
+  // Semana en pantalla y token del feed de cambios: tras guardar o eliminar solo se pide el delta
+  private semanaEnPantalla: { mes: number; anio: number; numeroSemana: number; inicio: string; fin: string; token: string; turnos: Turno[] } | null = null;
 
   constructor(
     private turnoService: TurnoService,
@@ -170,6 +174,10 @@ export default class TurnosComponent implements OnInit, AfterViewChecked {
 
   }
 
+  ngOnDestroy(): void {
+    this.eventosSubscription?.unsubscribe();
+  }
+
   ngAfterViewChecked(): void {
     if (this.needsTooltipInit && document.querySelectorAll('.container-green').length > 0) {
       this.inicializarTooltips();
@@ -288,11 +296,7 @@ export default class TurnosComponent implements OnInit, AfterViewChecked {
 
         this.turnosSubscription?.unsubscribe();
         const numeroSemana = this.calcularNumeroSemana(semanaActual, semanas);
-        this.turnos$ = this.turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana).pipe(
-          tap(() => {
-            this.needsTooltipInit = true; // Marcar para inicializar tooltips cuando los turnos estén listos
-          })
-        );
+        this.cargarTurnosSemana(mes, anio, numeroSemana, semanaSeleccionada);
         this.turnoStateService.setLoading(false);
       },
       error: (error) => {
@@ -377,11 +381,7 @@ export default class TurnosComponent implements OnInit, AfterViewChecked {
         this.turnoService.getSemanasDelMes(mes, anio).subscribe({
           next: (semanas) => {
             const numeroSemana = this.calcularNumeroSemana(semanaActual, semanas);
-            this.turnos$ = this.turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana).pipe(
-              tap(() => {
-                this.needsTooltipInit = true; // Marcar para inicializar tooltips
-              })
-            );
+            this.cargarTurnosSemana(mes, anio, numeroSemana, nuevaSemana);
             this.actualizarNombreMes();
             this.turnoStateService.setLoading(false);
           },
@@ -477,29 +477,89 @@ export default class TurnosComponent implements OnInit, AfterViewChecked {
     this.turnoActual = this.resetTurno();
   }
 
+  // Pide el token del feed antes que la semana: lo que cambie entre ambas llamadas llega en el próximo delta
+  private cargarTurnosSemana(mes: number, anio: number, numeroSemana: number, dias: DiaSemana[]): void {
+    const prefijoMes = `${anio}-${String(mes).padStart(2, '0')}`;
+    const delMes = dias.map((dia) => dia.fecha).filter((fecha) => fecha.startsWith(prefijoMes)).sort();
+    const inicio = delMes[0];
+    const fin = delMes[delMes.length - 1];
+    this.semanaEnPantalla = null;
+
+    // Cambios de otros usuarios: se aplican como delta en lugar de recargar la semana
+    this.eventosSubscription?.unsubscribe();
+    if (inicio) {
+      this.eventosSubscription = this.turnoService.escucharEventos(inicio).subscribe(() => {
+        // Si la semana aún se está cargando, el token pedido antes ya cubre estos cambios
+        if (!this.vistaMensual && this.semanaEnPantalla) {
+          this.actualizarSemanaConCambios();
+        }
+      });
+    }
+
+    const turnosSemana$ = this.turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana);
+    this.turnos$ = (inicio
+      ? this.turnoService.getCambios(inicio, fin).pipe(
+          switchMap(({ token }) => turnosSemana$.pipe(
+            tap((turnos) => this.semanaEnPantalla = { mes, anio, numeroSemana, inicio, fin, token, turnos })
+          ))
+        )
+      : turnosSemana$
+    ).pipe(
+      tap(() => {
+        this.needsTooltipInit = true; // Marcar para inicializar tooltips cuando los turnos estén listos
+      })
+    );
+  }
+
+  // Aplica solo lo que cambió desde la última carga; si el servidor pide recargar, se trae la semana completa
+  private actualizarSemanaConCambios(): void {
+    const semana = this.semanaEnPantalla;
+    if (!semana) {
+      this.recargarSemana();
+      return;
+    }
+    this.turnoService.getCambios(semana.inicio, semana.fin, semana.token).subscribe({
+      next: (cambios) => {
+        if (cambios.recargar || this.semanaEnPantalla !== semana) {
+          this.recargarSemana();
+          return;
+        }
+        semana.turnos = this.turnoService.aplicarCambios(semana.turnos, cambios);
+        semana.token = cambios.token;
+        this.turnos$ = of(semana.turnos);
+        this.needsTooltipInit = true;
+        this.turnosModificados.emit();
+      },
+      error: () => this.recargarSemana()
+    });
+  }
+
   manejarTurnoGuardado(): void {
     if (this.vistaMensual) {
       this.mostrarTurnosMensuales(this.colaboradorSeleccionado);
       this.turnosModificados.emit();
     } else {
-      const semanaActual = this.turnoStateService.getSemanaActual();
-      const mes = semanaActual.getMonth() + 1;
-      const anio = semanaActual.getFullYear();
-
-      this.calendarioService.obtenerSemanasDelMes(semanaActual).subscribe({
-        next: (semanas) => {
-          const numeroSemana = this.calcularNumeroSemana(semanaActual, semanas);
-          this.turnos$ = this.turnoService.getTurnosPorSemanaEstricta(mes, anio, numeroSemana).pipe(
-            tap(() => {
-              this.needsTooltipInit = true; // Marcar para inicializar tooltips
-            })
-          );
-          this.turnosModificados.emit();
-        }
-      });
+      this.actualizarSemanaConCambios();
     }
   }
 
+  private recargarSemana(): void {
+    const semanaActual = this.turnoStateService.getSemanaActual();
+    const mes = semanaActual.getMonth() + 1;
+    const anio = semanaActual.getFullYear();
+
+    this.calendarioService.obtenerSemanasDelMes(semanaActual).subscribe({
+      next: (semanas) => {
+        const numeroSemana = this.calcularNumeroSemana(semanaActual, semanas);
+        const semanaSeleccionada = semanas.find(semana =>
+          semana.some(dia => dia.fecha === format(semanaActual, 'yyyy-MM-dd'))
+        ) || semanas[0];
+        this.cargarTurnosSemana(mes, anio, numeroSemana, semanaSeleccionada);
+        this.turnosModificados.emit();
+      }
+    });
+  }
+
   manejarTurnoEliminado(): void {
     this.manejarTurnoGuardado();
   }
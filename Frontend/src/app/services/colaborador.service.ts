@@ -13,10 +13,13 @@ export interface Colaborador {
   empresaId: number;
   empresaNombre: string;
   fotoUrl?: string;
+  fotoEstado?: 'PENDIENTE' | 'LISTA' | 'ERROR'; // La foto nueva se sube en segundo plano
   habilitado: boolean;
   fechaNacimiento?: string; // Usamos string porque JSON serializa LocalDate como "YYYY-MM-DD"
   puestoId?: number;        // ID del puesto asignado
   puestoNombre?: string;    // Nombre del puesto
+  version?: number;         // Bloqueo optimista: se reenvía al actualizar
+  fechaActualizacion?: string;
 }
 
 @Injectable({
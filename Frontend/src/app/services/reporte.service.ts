@@ -48,4 +48,31 @@ export class ReporteService {
 
     return this.http.get<any[]>(`${this.apiUrl}/horas-extra`, { params });
   }
+
+  // Exportaciones generadas en el servidor (XLSX en streaming) con los mismos filtros que los reportes
+  exportarHorasTrabajadas(fechaInicio: string, fechaFin: string, colaboradores: number[]): Observable<Blob> {
+    return this.http.get(`${environment.apiUrl}/turnos/exportar/reporte`, {
+      params: this.paramsExportacion(fechaInicio, fechaFin, colaboradores),
+      responseType: 'blob'
+    });
+  }
+
+  exportarTurnosFeriados(fechaInicio: string, fechaFin: string, colaboradores: number[]): Observable<Blob> {
+    return this.http.get(`${environment.apiUrl}/turnos/exportar/reporte/feriados`, {
+      params: this.paramsExportacion(fechaInicio, fechaFin, colaboradores),
+      responseType: 'blob'
+    });
+  }
+
+  private paramsExportacion(fechaInicio: string, fechaFin: string, colaboradores: number[]): HttpParams {
+    let params = new HttpParams()
+      .set('fechaInicio', fechaInicio)
+      .set('fechaFin', fechaFin)
+      .set('formato', 'xlsx');
+
+    if (colaboradores.length > 0) {
+      params = params.set('colaboradores', colaboradores.join(','));
+    }
+    return params;
+  }
 }
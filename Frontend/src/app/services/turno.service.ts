@@ -3,7 +3,7 @@ import { DiaSemana } from './calendario.service';
 // turno.service.ts
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { catchError, map, Observable, tap, throwError, forkJoin } from 'rxjs';
+import { catchError, map, Observable, tap, throwError } from 'rxjs';
 import { format } from 'date-fns';
 import { es } from 'date-fns/locale';
 import { environment } from '../../environments/environment';
@@ -25,6 +25,8 @@ export interface Turno {
   tomoAlmuerzo?: boolean;
   esFeriado?: boolean;
   horasTotalesSemana?: number;
+  version?: number; // Bloqueo optimista: se reenvía al editar
+  fechaActualizacion?: string;
 }
 
 export interface TurnoPayload {
@@ -34,6 +36,7 @@ export interface TurnoPayload {
   horaSalida: string;
   empresa: { id: number };
   tienda: { id: number };
+  version?: number;
 }
 
 export interface TurnoPartidoPayload {
@@ -60,6 +63,34 @@ export interface ResumenMensual {
   turnos?: Turno[]; // Opcional, si decides incluir los turnos detallados
 }
 
+export interface TurnoEliminado {
+  id: number;
+  colaboradorId: number;
+  fecha: string;
+  fechaEliminacion: string;
+}
+
+// Delta de /turnos/cambios: primero se quitan los eliminados y luego se agregan o reemplazan los cambiados
+export interface CambiosTurnos {
+  cambiados: Turno[];
+  eliminados: TurnoEliminado[];
+  token: string;
+  recargar: boolean; // true: volver a pedir el rango completo
+}
+
+export interface EventoTurno {
+  tipo: 'GUARDADO' | 'ELIMINADO';
+  turnoId: number;
+  colaboradorId: number;
+  tiendaId: number;
+  fecha: string;
+}
+
+export interface LoteEventosTurno {
+  eventos: EventoTurno[];
+  recargar: boolean; // true: se perdieron eventos, pedir el delta completo
+}
+
 @Injectable({
   providedIn: 'root',
 })
@@ -144,9 +175,9 @@ export class TurnoService {
   updateTurno(id: number, turno: TurnoPayload): Observable<any> {
     return this.http.put(`${this.apiUrl}/${id}`, turno).pipe(
       catchError((error) => {
-        // Reenviar el error para que el componente lo gestione
+        // Reenviar el error para que el componente lo gestione (409 por versión trae { mensaje, actual })
         return throwError(
-          () => new Error(error.error.message || 'Error desconocido')
+          () => new Error((typeof error.error === 'string' ? error.error : error.error?.mensaje ?? error.error?.message) || 'Error desconocido')
         );
       })
     );
@@ -157,7 +188,7 @@ export class TurnoService {
       catchError((error) => {
         // Reenviar el error para que el componente lo gestione
         return throwError(
-          () => new Error(error.error.message || 'Error desconocido')
+          () => new Error((typeof error.error === 'string' ? error.error : error.error?.message) || 'Error desconocido')
         );
       })
     );
@@ -183,13 +214,13 @@ export class TurnoService {
       tienda: turnoPartido.tienda
     };
 
-    // Crear ambos turnos en paralelo usando forkJoin
-    return forkJoin({
-      turnoManana: this.addTurno(turnoManana),
-      turnoTarde: this.addTurno(turnoTarde)
-    }).pipe(
+    // Ambos tramos en un solo lote: se crean los dos o ninguno
+    return this.http.post<any>(`${this.apiUrl}/batch`, [turnoManana, turnoTarde]).pipe(
       catchError((error) => {
-        return throwError(() => new Error('Error al crear turno partido: ' + error.message));
+        const detalle = error.error?.resultados?.find((r: any) => r.error)?.error
+          || error.error?.message
+          || 'Error desconocido';
+        return throwError(() => new Error('Error al crear turno partido: ' + detalle));
       })
     );
   }
@@ -237,6 +268,44 @@ export class TurnoService {
     );
   }
 
+  // Sin "desde" solo devuelve el token: pedirlo antes de cargar el rango completo
+  getCambios(inicio: string, fin: string, desde?: string): Observable<CambiosTurnos> {
+    const params: Record<string, string> = { inicio, fin };
+    if (desde) {
+      params['desde'] = desde;
+    }
+    return this.http.get<CambiosTurnos>(`${this.apiUrl}/cambios`, { params });
+  }
+
+  // Canal en vivo de la semana: lotes de turnos confirmados por cualquier usuario. EventSource reconecta solo;
+  // al desuscribirse se cierra la conexión.
+  escucharEventos(semana: string, tiendaId?: number): Observable<LoteEventosTurno> {
+    return new Observable<LoteEventosTurno>((observer) => {
+      const params = new URLSearchParams({ semana });
+      if (tiendaId) {
+        params.set('tiendaId', String(tiendaId));
+      }
+      const fuente = new EventSource(`${this.apiUrl}/eventos?${params}`);
+      fuente.addEventListener('turnos', (evento) => observer.next(JSON.parse((evento as MessageEvent).data)));
+      return () => fuente.close();
+    });
+  }
+
+  // Aplica un delta a la lista de la semana y recalcula las horas semanales de cada colaborador
+  aplicarCambios(turnos: Turno[], cambios: CambiosTurnos): Turno[] {
+    const eliminados = new Set(cambios.eliminados.map((e) => e.id));
+    const porId = new Map<number, Turno>();
+    turnos.filter((t) => !eliminados.has(t.id)).forEach((t) => porId.set(t.id, t));
+    cambios.cambiados.forEach((t) => porId.set(t.id, t));
+
+    const resultado = Array.from(porId.values());
+    const horasPorColaborador = new Map<number | undefined, number>();
+    resultado.forEach((t) =>
+      horasPorColaborador.set(t.colaboradorId, (horasPorColaborador.get(t.colaboradorId) ?? 0) + (t.horasTrabajadas ?? 0))
+    );
+    return resultado.map((t) => ({ ...t, horasTotalesSemana: horasPorColaborador.get(t.colaboradorId) ?? 0 }));
+  }
+
   /**
  * Filtra los turnos de un colaborador específico en una fecha específica.
  * @param turnos Lista de turnos.
@@ -268,7 +337,8 @@ export class TurnoService {
  * @returns Observable con la lista de resúmenes mensuales.
  */
   getResumenMensual(mes: number, anio: number, colaboradoresIds?: number[]): Observable<ResumenMensual[]> {
-    let url = `${this.apiUrl}/resumen-mensual?mes=${mes}&anio=${anio}`;
+    // Solo se usan los totales: no pedir el detalle de turnos
+    let url = `${this.apiUrl}/resumen-mensual?mes=${mes}&anio=${anio}&incluirTurnos=false`;
 
     // Si se proporcionan IDs de colaboradores, añadirlos como parámetro
     if (colaboradoresIds && colaboradoresIds.length > 0) {
@@ -285,8 +355,8 @@ export class TurnoService {
     );
   }
 
-    // Método existente que ya tienes
-    getTurnosByColaboradorId(id: number): Observable<any[]> {
-      return this.http.get<any[]>(`${this.apiUrl}/${id}`);
+    // Historial paginado del colaborador, del turno más reciente al más antiguo
+    getTurnosByColaboradorId(id: number, limite: number = 100): Observable<any[]> {
+      return this.http.get<any[]>(`${this.apiUrl}/${id}?limite=${limite}`);
     }
 }